@@ -0,0 +1,245 @@
+package com.github.dkharrat.nexusdialog.currency;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formats the amounts typed in currency input fields. The symbols and grouping of a locale are resolved once, when
+ * the formatter of a configuration is created, and formatting reads the digits of the input and writes the formatted
+ * amount in a single pass, without regular expressions or intermediate strings.
+ * <p/>
+ * Formatters are immutable and cached per configuration, so all the fields using the same locale, symbol and
+ * options share one instance, whichever widget displays them.
+ */
+public final class CurrencyFormatter {
+    /**
+     * Returned by {@link #format(CharSequence, StringBuilder)} when the input has no digits.
+     */
+    public static final long NO_AMOUNT = -1;
+
+    // amounts are limited to 18 digits, so that they fit in a long
+    private static final int MAX_DIGITS = 18;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final long[] POWERS_OF_TEN = new long[MAX_DIGITS + 1];
+    private static final ConcurrentHashMap<List<Object>, CurrencyFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final String prefix;
+    private final String suffix;
+    private final String groupingSeparator;
+    private final int groupingSize;
+    private final char decimalSeparator;
+    private final int fractionDigits;
+
+    private CurrencyFormatter(String prefix, String suffix, String groupingSeparator, int groupingSize,
+                              char decimalSeparator, int fractionDigits) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.groupingSeparator = groupingSeparator;
+        this.groupingSize = groupingSize;
+        this.decimalSeparator = decimalSeparator;
+        this.fractionDigits = fractionDigits;
+    }
+
+    /**
+     * Returns the formatter for the specified configuration.
+     *
+     * @param locale            the locale providing the position of the symbol and the separators when decimals are used
+     * @param currencySymbol    the currency symbol to display
+     * @param decimals          if true, the last two digits typed are cents and the locale's separators are used.
+     *                          Otherwise, amounts are whole numbers grouped by the specified separator.
+     * @param separator         the grouping separator used when decimals are not used
+     * @param spacing           if true, a space follows the currency symbol
+     * @param delimiter         if true, a period follows the currency symbol
+     * @return the formatter for the specified configuration
+     * @see #getInstance(Locale, String, int, String, boolean, boolean)
+     */
+    public static CurrencyFormatter getInstance(Locale locale, String currencySymbol, boolean decimals, String separator,
+                                                boolean spacing, boolean delimiter) {
+        return getInstance(locale, currencySymbol, decimals ? 2 : 0, separator, spacing, delimiter);
+    }
+
+    /**
+     * Returns the formatter for the specified configuration, with the number of fraction digits of the currency, such
+     * as 0 for JPY, 2 for EUR or 3 for KWD.
+     *
+     * @param locale            the locale providing the position of the symbol and the separators when the amounts
+     *                          have fraction digits
+     * @param currencySymbol    the currency symbol to display
+     * @param fractionDigits    the number of digits after the decimal separator. If positive, the last digits typed
+     *                          are the fraction and the locale's separators are used. If 0, amounts are whole numbers
+     *                          grouped by the specified separator.
+     * @param separator         the grouping separator used when amounts have no fraction digits
+     * @param spacing           if true, a space follows the currency symbol
+     * @param delimiter         if true, a period follows the currency symbol
+     * @return the formatter for the specified configuration
+     * @throws IllegalArgumentException if the number of fraction digits is negative or above 9
+     */
+    public static CurrencyFormatter getInstance(Locale locale, String currencySymbol, int fractionDigits,
+                                                String separator, boolean spacing, boolean delimiter) {
+        if (fractionDigits < 0 || fractionDigits > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("Unsupported number of fraction digits: " + fractionDigits);
+        }
+
+        List<Object> key = Arrays.<Object>asList(locale, currencySymbol, fractionDigits, separator, spacing, delimiter);
+        CurrencyFormatter formatter = FORMATTERS.get(key);
+        if (formatter == null) {
+            formatter = create(locale, currencySymbol, fractionDigits, separator, spacing, delimiter);
+            CurrencyFormatter existing = FORMATTERS.putIfAbsent(key, formatter);
+            if (existing != null) {
+                formatter = existing;
+            }
+        }
+        return formatter;
+    }
+
+    private static CurrencyFormatter create(Locale locale, String currencySymbol, int fractionDigits, String separator,
+                                            boolean spacing, boolean delimiter) {
+        String symbol = currencySymbol + (delimiter ? "." : "") + (spacing ? " " : "");
+        if (fractionDigits == 0) {
+            return new CurrencyFormatter(symbol, "", separator, 3, '.', 0);
+        }
+
+        NumberFormat numberFormat = NumberFormat.getCurrencyInstance(locale);
+        if (!(numberFormat instanceof DecimalFormat)) {
+            return new CurrencyFormatter(symbol, "", ",", 3, '.', fractionDigits);
+        }
+
+        // the locale's symbol is replaced by the configured one, keeping its position and spacing
+        DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+        DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        String localeSymbol = symbols.getCurrencySymbol();
+        return new CurrencyFormatter(
+                decimalFormat.getPositivePrefix().replace(localeSymbol, symbol),
+                decimalFormat.getPositiveSuffix().replace(localeSymbol, symbol),
+                decimalFormat.isGroupingUsed() ? String.valueOf(symbols.getGroupingSeparator()) : "",
+                decimalFormat.getGroupingSize() > 0 ? decimalFormat.getGroupingSize() : 3,
+                symbols.getDecimalSeparator(),
+                fractionDigits);
+    }
+
+    /**
+     * Returns the text displayed before the amount.
+     *
+     * @return the text displayed before the amount, such as the currency symbol
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Returns the text displayed after the amount.
+     *
+     * @return the text displayed after the amount, which is empty unless the locale places the symbol after amounts
+     */
+    public String getSuffix() {
+        return suffix;
+    }
+
+    /**
+     * Returns the number of digits typed after the decimal separator.
+     *
+     * @return the number of fraction digits of the currency, such as 2 for cents, or 0 for whole amounts
+     */
+    public int getFractionDigits() {
+        return fractionDigits;
+    }
+
+    /**
+     * Formats the digits of the specified input, ignoring any other character, and appends the result to the
+     * specified builder. Digits beyond the 18th are ignored.
+     *
+     * @param input the text typed by the user
+     * @param out   the builder to append the formatted amount to
+     * @return the amount, in units of the last digit typed, or {@link #NO_AMOUNT} if the input has no digits, in which
+     *         case nothing is appended
+     */
+    public long format(CharSequence input, StringBuilder out) {
+        long amount = parse(input);
+        if (amount != NO_AMOUNT) {
+            formatAmount(amount, out);
+        }
+        return amount;
+    }
+
+    /**
+     * Returns the amount made of the digits of the specified input, ignoring any other character. Digits beyond the
+     * 18th are ignored.
+     *
+     * @param input the text to parse, such as text typed by the user or a previously formatted amount
+     * @return the amount, in units of the last digit, or {@link #NO_AMOUNT} if the input has no digits
+     */
+    public long parse(CharSequence input) {
+        long amount = 0;
+        int digits = 0;
+        boolean hasDigits = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigits = true;
+                if (amount != 0 || c != '0') {
+                    if (digits == MAX_DIGITS) {
+                        break;
+                    }
+                    amount = amount * 10 + (c - '0');
+                    digits++;
+                }
+            }
+        }
+
+        return hasDigits ? amount : NO_AMOUNT;
+    }
+
+    /**
+     * Appends the specified amount to the builder, with the currency symbol.
+     *
+     * @param amount    the amount, in units of the last digit, such as cents when decimals are used
+     * @param out       the builder to append the formatted amount to
+     */
+    public void formatAmount(long amount, StringBuilder out) {
+        out.append(prefix);
+        formatNumber(amount, out);
+        out.append(suffix);
+    }
+
+    /**
+     * Appends the specified amount to the builder, without the currency symbol.
+     *
+     * @param amount    the amount, in units of the last digit, such as cents when decimals are used
+     * @param out       the builder to append the formatted number to
+     */
+    public void formatNumber(long amount, StringBuilder out) {
+        long unit = POWERS_OF_TEN[fractionDigits];
+        long integerPart = amount / unit;
+
+        int integerDigits = 1;
+        while (integerDigits < MAX_DIGITS && integerPart >= POWERS_OF_TEN[integerDigits]) {
+            integerDigits++;
+        }
+        for (int i = integerDigits - 1; i >= 0; i--) {
+            out.append((char) ('0' + integerPart / POWERS_OF_TEN[i] % 10));
+            if (i > 0 && i % groupingSize == 0) {
+                out.append(groupingSeparator);
+            }
+        }
+
+        if (fractionDigits > 0) {
+            long fraction = amount % unit;
+            out.append(decimalSeparator);
+            for (int i = fractionDigits - 1; i >= 0; i--) {
+                out.append((char) ('0' + fraction / POWERS_OF_TEN[i] % 10));
+            }
+        }
+    }
+}
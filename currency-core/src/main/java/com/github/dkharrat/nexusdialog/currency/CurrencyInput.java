@@ -0,0 +1,221 @@
+package com.github.dkharrat.nexusdialog.currency;
+
+import com.github.dkharrat.nexusdialog.text.TextDiff;
+import com.github.dkharrat.nexusdialog.text.TextEdit;
+import com.github.dkharrat.nexusdialog.text.TextField;
+
+import java.util.Locale;
+
+/**
+ * The state of a currency input field: its formatting options, the amount entered and the text displaying it. Fields
+ * pass the text typed by the user to {@link #onTextChanged(CharSequence, int, TextField)}, which replaces only the
+ * changed region of their text and keeps the cursor before the same digits.
+ * <p/>
+ * Amounts are kept in minor units, such as cents for a currency with 2 fraction digits. The formatter is resolved for the default
+ * locale, and resolved again if the default locale changes. Instances are not thread-safe and belong to one field.
+ */
+public final class CurrencyInput {
+    private String currencySymbol = "";
+    private int fractionDigits = 2;
+    private String separator = ",";
+    private boolean spacing;
+    private boolean delimiter;
+
+    private CurrencyFormatter formatter;
+    private Locale formatterLocale;
+    private final StringBuilder formatted = new StringBuilder();
+    private final TextEdit edit = new TextEdit();
+    private String text = "";
+    private long amount = CurrencyFormatter.NO_AMOUNT;
+    // set while an edit is applied to the field, whose text watcher reports the change back
+    private boolean applying;
+
+    /**
+     * Handles a change of the field's text and applies the resulting edit to the field. Changes of the text made by
+     * the edit itself are ignored, so this method can be called from the field's text watcher.
+     *
+     * @param input     the text of the field
+     * @param selection the position of the cursor in the text, or -1 if unknown
+     * @param field     the field to apply the edit to
+     * @return true if the amount or its text changed, in which case the listeners of the field should be notified
+     */
+    public boolean onTextChanged(CharSequence input, int selection, TextField field) {
+        if (applying) {
+            return false;
+        }
+
+        long previousAmount = amount;
+        TextEdit textEdit = onTextChanged(input, selection);
+        if (textEdit != null) {
+            apply(textEdit, field);
+        }
+        // clearing the field is reported too, so that the amount is removed
+        return textEdit != null || previousAmount != amount;
+    }
+
+    /**
+     * Displays the specified amount in the field, with the cursor at the end of the text.
+     *
+     * @param newAmount the amount in minor units, or {@link CurrencyFormatter#NO_AMOUNT} to clear the field
+     * @param input     the current text of the field
+     * @param field     the field to apply the edit to
+     */
+    public void setAmount(long newAmount, CharSequence input, TextField field) {
+        apply(setAmount(newAmount, input), field);
+    }
+
+    private void apply(TextEdit textEdit, TextField field) {
+        applying = true;
+        try {
+            textEdit.applyTo(field);
+        } finally {
+            applying = false;
+        }
+    }
+
+    /**
+     * Handles a change of the field's text, which is formatted again if it contains an amount. Text without digits
+     * clears the amount and is left as is, so that the user can delete the whole amount.
+     *
+     * @param input     the text of the field
+     * @param selection the position of the cursor in the text, or -1 if unknown
+     * @return the edit to apply to the text of the field, or null if the text must be left as is
+     */
+    public TextEdit onTextChanged(CharSequence input, int selection) {
+        if (text.contentEquals(input)) {
+            return null;
+        }
+
+        long newAmount = getFormatter().parse(input);
+        if (newAmount == CurrencyFormatter.NO_AMOUNT) {
+            amount = CurrencyFormatter.NO_AMOUNT;
+            text = "";
+            return null;
+        }
+
+        // digits are aligned to the right, so the cursor stays before the same number of trailing digits
+        int digitsAfterCursor = selection >= 0 ? TextDiff.countDigits(input, selection, input.length()) : 0;
+        setAmount(newAmount);
+        TextDiff.computeEdit(input, text, edit);
+        edit.setSelection(TextDiff.positionBeforeDigitsFromEnd(text, digitsAfterCursor));
+        return edit;
+    }
+
+    /**
+     * Displays the specified amount, with the cursor at the end of the text.
+     *
+     * @param newAmount the amount in minor units, or {@link CurrencyFormatter#NO_AMOUNT} to clear the field
+     * @param input     the current text of the field
+     * @return the edit to apply to the text of the field
+     */
+    public TextEdit setAmount(long newAmount, CharSequence input) {
+        if (newAmount == CurrencyFormatter.NO_AMOUNT) {
+            amount = CurrencyFormatter.NO_AMOUNT;
+            text = "";
+        } else {
+            setAmount(newAmount);
+        }
+        TextDiff.computeEdit(input, text, edit);
+        edit.setSelection(text.length());
+        return edit;
+    }
+
+    private void setAmount(long newAmount) {
+        formatted.setLength(0);
+        getFormatter().formatAmount(newAmount, formatted);
+        amount = newAmount;
+        text = formatted.toString();
+    }
+
+    /**
+     * Returns the formatter for the options of this field and the default locale.
+     *
+     * @return the formatter of this field
+     */
+    public CurrencyFormatter getFormatter() {
+        // the default locale may change while the field exists
+        Locale locale = Locale.getDefault();
+        if (formatter == null || !locale.equals(formatterLocale)) {
+            formatter = CurrencyFormatter.getInstance(locale, currencySymbol, fractionDigits, separator, spacing, delimiter);
+            formatterLocale = locale;
+        }
+        return formatter;
+    }
+
+    /**
+     * Returns the amount entered.
+     *
+     * @return the amount in minor units, or {@link CurrencyFormatter#NO_AMOUNT} if no amount was entered
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    /**
+     * Returns the amount entered in major units, such as 12.34 for 1234 cents.
+     *
+     * @return the amount entered, or 0 if no amount was entered
+     */
+    public double getMajorUnits() {
+        if (amount == CurrencyFormatter.NO_AMOUNT) {
+            return 0;
+        }
+        return amount / Math.pow(10, getFormatter().getFractionDigits());
+    }
+
+    /**
+     * Returns the formatted amount, as displayed by the field.
+     *
+     * @return the formatted amount, or an empty string if no amount was entered
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the formatted amount without the currency symbol, such as "1,234.56".
+     *
+     * @return the formatted amount without the currency symbol, or an empty string if no amount was entered
+     */
+    public String getCleanValue() {
+        if (text.isEmpty()) {
+            return "";
+        }
+        CurrencyFormatter currencyFormatter = getFormatter();
+        return text.substring(currencyFormatter.getPrefix().length(), text.length() - currencyFormatter.getSuffix().length());
+    }
+
+    public void setCurrencySymbol(String currencySymbol) {
+        this.currencySymbol = currencySymbol;
+        formatter = null;
+    }
+
+    public void setDecimals(boolean decimals) {
+        setFractionDigits(decimals ? 2 : 0);
+    }
+
+    /**
+     * Sets the number of digits after the decimal separator, such as 0 for JPY, 2 for EUR or 3 for KWD. Default is 2.
+     *
+     * @param fractionDigits the number of fraction digits of the currency
+     */
+    public void setFractionDigits(int fractionDigits) {
+        this.fractionDigits = fractionDigits;
+        formatter = null;
+    }
+
+    public void setSeparator(String separator) {
+        this.separator = separator;
+        formatter = null;
+    }
+
+    public void setSpacing(boolean spacing) {
+        this.spacing = spacing;
+        formatter = null;
+    }
+
+    public void setDelimiter(boolean delimiter) {
+        this.delimiter = delimiter;
+        formatter = null;
+    }
+}
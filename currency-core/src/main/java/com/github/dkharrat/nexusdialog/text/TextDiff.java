@@ -0,0 +1,128 @@
+package com.github.dkharrat.nexusdialog.text;
+
+/**
+ * Computes the minimal edit turning a text into another, and maps cursor positions between the unformatted and
+ * formatted versions of an input. Formatted input fields use it to update only the changed region of their text.
+ */
+public final class TextDiff {
+    private TextDiff() {
+    }
+
+    /**
+     * Returns the number of leading characters that both texts have in common.
+     *
+     * @param a the first text
+     * @param b the second text
+     * @return the length of the common prefix
+     */
+    public static int commonPrefixLength(CharSequence a, CharSequence b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the number of trailing characters that both texts have in common, without overlapping their common
+     * prefix.
+     *
+     * @param a             the first text
+     * @param b             the second text
+     * @param prefixLength  the length of the common prefix of the texts
+     * @return the length of the common suffix
+     */
+    public static int commonSuffixLength(CharSequence a, CharSequence b, int prefixLength) {
+        int length = Math.min(a.length(), b.length()) - prefixLength;
+        int i = 0;
+        while (i < length && a.charAt(a.length() - 1 - i) == b.charAt(b.length() - 1 - i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Computes the minimal edit turning the text into the target text, which replaces only the region where they
+     * differ. The selection of the edit is left unchanged.
+     *
+     * @param text      the current text
+     * @param target    the text to turn it into
+     * @param edit      the edit to store the result in
+     * @return true if the texts differ, otherwise false, in which case the edit is empty
+     */
+    public static boolean computeEdit(CharSequence text, CharSequence target, TextEdit edit) {
+        int prefix = commonPrefixLength(text, target);
+        int suffix = commonSuffixLength(text, target, prefix);
+        edit.set(prefix, text.length() - suffix, target, prefix, target.length() - suffix);
+        return !edit.isEmpty();
+    }
+
+    /**
+     * Returns the number of digits in the specified range of the text.
+     *
+     * @param text  the text
+     * @param start the start of the range, inclusive
+     * @param end   the end of the range, exclusive
+     * @return the number of digits in the range
+     */
+    public static int countDigits(CharSequence text, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the position right after the specified number of digits, counting from the start of the text. This maps
+     * a cursor to the same digit when the digits are kept in place by formatting, as with input masks.
+     *
+     * @param text      the text
+     * @param digits    the number of digits before the position
+     * @return the position after the digits, or the end of the text if it has fewer digits
+     */
+    public static int positionAfterDigits(CharSequence text, int digits) {
+        if (digits <= 0) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9' && ++count == digits) {
+                return i + 1;
+            }
+        }
+        return text.length();
+    }
+
+    /**
+     * Returns the position right before the specified number of digits, counting from the end of the text. This maps
+     * a cursor to the same digit when digits are aligned to the right by formatting, as with currency amounts.
+     *
+     * @param text      the text
+     * @param digits    the number of digits after the position
+     * @return the position before the digits, which is after the last digit if <code>digits</code> is 0, or before the
+     *         first digit if the text has fewer digits. If the text has no digits, the end of the text.
+     */
+    public static int positionBeforeDigitsFromEnd(CharSequence text, int digits) {
+        int count = 0;
+        int firstDigit = text.length();
+        for (int i = text.length() - 1; i >= 0; i--) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits <= 0) {
+                    return i + 1;
+                }
+                firstDigit = i;
+                if (++count == digits) {
+                    return i;
+                }
+            }
+        }
+        return firstDigit;
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.dkharrat.nexusdialog.text;
+
+/**
+ * An edit to apply to the text of an input field: the range <code>[start, end)</code> of the field's text is replaced
+ * by the range <code>[replacementStart, replacementEnd)</code> of the replacement text, after which the cursor is
+ * placed at the selection position. Fields apply it in place with {@link #applyTo(TextField)}.
+ * <p/>
+ * Instances are reused by their producer for each new edit, so they must be applied before the next edit is computed.
+ */
+public final class TextEdit {
+    private int start;
+    private int end;
+    private CharSequence replacement = "";
+    private int replacementStart;
+    private int replacementEnd;
+    private int selection;
+
+    void set(int start, int end, CharSequence replacement, int replacementStart, int replacementEnd) {
+        this.start = start;
+        this.end = end;
+        this.replacement = replacement;
+        this.replacementStart = replacementStart;
+        this.replacementEnd = replacementEnd;
+    }
+
+    /**
+     * Sets the position of the cursor once the edit is applied.
+     *
+     * @param selection the position of the cursor in the edited text
+     */
+    public void setSelection(int selection) {
+        this.selection = selection;
+    }
+
+    /**
+     * Returns the start of the range of the field's text to replace.
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end of the range of the field's text to replace, exclusive.
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the text containing the replacement. Only the range from {@link #getReplacementStart()} to
+     * {@link #getReplacementEnd()} is inserted.
+     */
+    public CharSequence getReplacement() {
+        return replacement;
+    }
+
+    /**
+     * Returns the start of the range of the replacement text to insert.
+     */
+    public int getReplacementStart() {
+        return replacementStart;
+    }
+
+    /**
+     * Returns the end of the range of the replacement text to insert, exclusive.
+     */
+    public int getReplacementEnd() {
+        return replacementEnd;
+    }
+
+    /**
+     * Returns the position of the cursor once the edit is applied.
+     */
+    public int getSelection() {
+        return selection;
+    }
+
+    /**
+     * Applies this edit to the specified text, then places the cursor. The text is only replaced if the edit changes
+     * it.
+     *
+     * @param field the text of the field, which must be the text the edit was computed for
+     */
+    public void applyTo(TextField field) {
+        if (!isEmpty()) {
+            field.replace(start, end, replacement, replacementStart, replacementEnd);
+        }
+        field.setSelection(selection);
+    }
+
+    /**
+     * Indicates if the edit leaves the text unchanged, in which case only the cursor needs to be placed.
+     *
+     * @return true if the edit neither removes nor inserts text, otherwise false
+     */
+    public boolean isEmpty() {
+        return start == end && replacementStart == replacementEnd;
+    }
+}
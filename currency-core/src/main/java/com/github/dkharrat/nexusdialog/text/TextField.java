@@ -0,0 +1,26 @@
+package com.github.dkharrat.nexusdialog.text;
+
+/**
+ * The text of an input field that a {@link TextEdit} is applied to, such as the <code>Editable</code> of an Android
+ * <code>EditText</code>. It lets the logic of formatted fields be shared by widgets that do not share a base class.
+ */
+public interface TextField {
+    /**
+     * Replaces the range <code>[start, end)</code> of the text by the range <code>[replacementStart,
+     * replacementEnd)</code> of the replacement text.
+     *
+     * @param start             the start of the range to replace
+     * @param end               the end of the range to replace, exclusive
+     * @param replacement       the text containing the replacement
+     * @param replacementStart  the start of the range of the replacement text to insert
+     * @param replacementEnd    the end of the range of the replacement text to insert, exclusive
+     */
+    void replace(int start, int end, CharSequence replacement, int replacementStart, int replacementEnd);
+
+    /**
+     * Places the cursor at the specified position.
+     *
+     * @param position the position of the cursor in the text
+     */
+    void setSelection(int position);
+}
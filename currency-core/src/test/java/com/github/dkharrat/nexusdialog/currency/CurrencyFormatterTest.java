@@ -0,0 +1,66 @@
+package com.github.dkharrat.nexusdialog.currency;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+public class CurrencyFormatterTest {
+    private static final CurrencyFormatter JPY = CurrencyFormatter.getInstance(Locale.US, "JP", 0, ",", false, false);
+    private static final CurrencyFormatter USD = CurrencyFormatter.getInstance(Locale.US, "$", 2, ",", false, false);
+    private static final CurrencyFormatter KWD = CurrencyFormatter.getInstance(Locale.US, "KD", 3, ",", false, false);
+
+    private static String format(CurrencyFormatter formatter, String input) {
+        StringBuilder out = new StringBuilder();
+        formatter.format(input, out);
+        return out.toString();
+    }
+
+    @Test
+    public void formatsWholeAmountsWithoutFractionDigits() {
+        assertEquals(0, JPY.getFractionDigits());
+        assertEquals("JP1,234,567", format(JPY, "1234567"));
+        assertEquals(1234567, JPY.parse("JP1,234,567"));
+    }
+
+    @Test
+    public void formatsTwoFractionDigits() {
+        assertEquals(2, USD.getFractionDigits());
+        assertEquals("$0.05", format(USD, "5"));
+        assertEquals("$1,234.56", format(USD, "123456"));
+        assertEquals(123456, USD.parse("$1,234.56"));
+    }
+
+    @Test
+    public void formatsThreeFractionDigits() {
+        assertEquals(3, KWD.getFractionDigits());
+        assertEquals("KD0.005", format(KWD, "5"));
+        assertEquals("KD1,234.567", format(KWD, "1234567"));
+        // minor units of a 3-digit currency are thousandths
+        assertEquals(1234567, KWD.parse("KD1,234.567"));
+    }
+
+    @Test
+    public void decimalsFlagMeansTwoFractionDigits() {
+        assertEquals(USD, CurrencyFormatter.getInstance(Locale.US, "$", true, ",", false, false));
+        assertEquals(0, CurrencyFormatter.getInstance(Locale.US, "$", false, ",", false, false).getFractionDigits());
+    }
+
+    @Test
+    public void majorUnitsFollowFractionDigits() {
+        CurrencyInput input = new CurrencyInput();
+        input.setFractionDigits(3);
+        input.setAmount(12345, "");
+        assertEquals(12.345, input.getMajorUnits(), 1e-9);
+
+        input.setFractionDigits(0);
+        input.setAmount(12345, "");
+        assertEquals(12345, input.getMajorUnits(), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeFractionDigits() {
+        CurrencyFormatter.getInstance(Locale.US, "$", -1, ",", false, false);
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.dkharrat.nexusdialog.currency;
+
+import com.github.dkharrat.nexusdialog.text.TextField;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CurrencyInputTest {
+    private Locale defaultLocale;
+    private CurrencyInput input;
+    private Field field;
+
+    /**
+     * A field backed by a builder, which reports changes to the input like the text watcher of a widget.
+     */
+    private class Field implements TextField {
+        final StringBuilder text = new StringBuilder();
+        int selection;
+
+        @Override
+        public void replace(int start, int end, CharSequence replacement, int replacementStart, int replacementEnd) {
+            text.replace(start, end, replacement.subSequence(replacementStart, replacementEnd).toString());
+            // the widget's text watcher is called back while the edit is applied
+            assertFalse(input.onTextChanged(text, selection, this));
+        }
+
+        @Override
+        public void setSelection(int position) {
+            selection = position;
+        }
+
+        boolean type(String digits) {
+            text.insert(selection, digits);
+            selection += digits.length();
+            return input.onTextChanged(text, selection, this);
+        }
+
+        boolean backspace() {
+            text.deleteCharAt(selection - 1);
+            selection--;
+            return input.onTextChanged(text, selection, this);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        input = new CurrencyInput();
+        input.setCurrencySymbol("$");
+        field = new Field();
+    }
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    public void entersDigitsFromTheRight() {
+        assertTrue(field.type("1"));
+        assertEquals("$0.01", field.text.toString());
+        field.type("2");
+        field.type("3");
+        field.type("4");
+        field.type("5");
+        assertEquals("$123.45", field.text.toString());
+        assertEquals(12345, input.getAmount());
+        assertEquals(field.text.length(), field.selection);
+    }
+
+    @Test
+    public void backspaceRemovesTheLastDigit() {
+        field.type("12345");
+        assertTrue(field.backspace());
+        assertEquals("$12.34", field.text.toString());
+        assertEquals(1234, input.getAmount());
+        assertEquals(field.text.length(), field.selection);
+    }
+
+    @Test
+    public void backspaceOverSeparatorKeepsTheDigits() {
+        field.type("123456");
+        assertEquals("$1,234.56", field.text.toString());
+        field.selection = 3;
+        field.backspace();
+        assertEquals("$1,234.56", field.text.toString());
+        assertEquals(123456, input.getAmount());
+        // the cursor stays before the same digits
+        assertEquals(3, field.selection);
+    }
+
+    @Test
+    public void keepsTheCursorBeforeTheSameDigits() {
+        field.type("12345");
+        field.selection = 2;
+        field.type("9");
+        assertEquals("$1,923.45", field.text.toString());
+        assertEquals("$1,9".length(), field.selection);
+    }
+
+    @Test
+    public void clearingTheTextRemovesTheAmount() {
+        field.type("12");
+        field.text.setLength(0);
+        field.selection = 0;
+        assertTrue(input.onTextChanged(field.text, 0, field));
+        assertEquals(CurrencyFormatter.NO_AMOUNT, input.getAmount());
+        assertEquals("", input.getText());
+        assertEquals(0, input.getMajorUnits(), 0);
+    }
+
+    @Test
+    public void ignoresTextThatIsAlreadyFormatted() {
+        field.type("12");
+        assertFalse(input.onTextChanged(field.text, field.selection, field));
+    }
+
+    @Test
+    public void setsAmountsOfEachDigitCount() {
+        input.setFractionDigits(0);
+        input.setAmount(12345, field.text, field);
+        assertEquals("$12,345", field.text.toString());
+        assertEquals(12345, input.getMajorUnits(), 0);
+
+        input.setFractionDigits(2);
+        input.setAmount(12345, field.text, field);
+        assertEquals("$123.45", field.text.toString());
+        assertEquals(123.45, input.getMajorUnits(), 1e-9);
+
+        input.setFractionDigits(3);
+        input.setAmount(12345, field.text, field);
+        assertEquals("$12.345", field.text.toString());
+        assertEquals(12.345, input.getMajorUnits(), 1e-9);
+        assertEquals("12.345", input.getCleanValue());
+        assertEquals(field.text.length(), field.selection);
+    }
+
+    @Test
+    public void pastedFractionDigitsAreNotRounded() {
+        // every digit typed is a minor unit, so extra fraction digits shift the amount rather than being rounded
+        field.type("12.345");
+        assertEquals("$123.45", field.text.toString());
+        assertEquals(12345, input.getAmount());
+    }
+
+    @Test
+    public void ignoresDigitsBeyondTheEighteenth() {
+        field.type("123456789012345678");
+        long amount = input.getAmount();
+        field.type("9");
+        assertEquals(amount, input.getAmount());
+        assertEquals("$1,234,567,890,123,456.78", field.text.toString());
+    }
+
+    @Test
+    public void ignoresLeadingZeros() {
+        field.type("0005");
+        assertEquals(5, input.getAmount());
+        assertEquals("$0.05", field.text.toString());
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.dkharrat.nexusdialog.text;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TextDiffTest {
+    private static String apply(String text, TextEdit edit) {
+        return new StringBuilder(text)
+                .replace(edit.getStart(), edit.getEnd(), edit.getReplacement()
+                        .subSequence(edit.getReplacementStart(), edit.getReplacementEnd()).toString())
+                .toString();
+    }
+
+    @Test
+    public void replacesOnlyTheChangedRegion() {
+        TextEdit edit = new TextEdit();
+        assertTrue(TextDiff.computeEdit("$1234.56", "$12,345.6", edit));
+        assertEquals(3, edit.getStart());
+        assertEquals("$12,345.6", apply("$1234.56", edit));
+    }
+
+    @Test
+    public void insertsAndDeletes() {
+        TextEdit edit = new TextEdit();
+        TextDiff.computeEdit("$0.05", "$0.51", edit);
+        assertEquals("$0.51", apply("$0.05", edit));
+        TextDiff.computeEdit("$123.45", "$12.34", edit);
+        assertEquals("$12.34", apply("$123.45", edit));
+        TextDiff.computeEdit("$1.00", "", edit);
+        assertEquals("", apply("$1.00", edit));
+    }
+
+    @Test
+    public void equalTextsGiveAnEmptyEdit() {
+        TextEdit edit = new TextEdit();
+        assertFalse(TextDiff.computeEdit("$1.00", "$1.00", edit));
+        assertTrue(edit.isEmpty());
+    }
+
+    @Test
+    public void suffixDoesNotOverlapPrefix() {
+        TextEdit edit = new TextEdit();
+        TextDiff.computeEdit("aa", "aaa", edit);
+        assertEquals(2, edit.getStart());
+        assertEquals(2, edit.getEnd());
+        assertEquals("aaa", apply("aa", edit));
+    }
+
+    @Test
+    public void countsDigits() {
+        assertEquals(3, TextDiff.countDigits("$1,23", 0, 5));
+        assertEquals(2, TextDiff.countDigits("$1,23", 2, 5));
+        assertEquals(0, TextDiff.countDigits("$", 0, 1));
+    }
+
+    @Test
+    public void mapsPositionsAfterDigits() {
+        assertEquals(0, TextDiff.positionAfterDigits("(12) 34", 0));
+        assertEquals(3, TextDiff.positionAfterDigits("(12) 34", 2));
+        assertEquals(7, TextDiff.positionAfterDigits("(12) 34", 9));
+    }
+
+    @Test
+    public void mapsPositionsBeforeDigitsFromEnd() {
+        assertEquals(9, TextDiff.positionBeforeDigitsFromEnd("$1,234.56", 0));
+        assertEquals(7, TextDiff.positionBeforeDigitsFromEnd("$1,234.56", 2));
+        assertEquals(3, TextDiff.positionBeforeDigitsFromEnd("$1,234.56", 5));
+        assertEquals(1, TextDiff.positionBeforeDigitsFromEnd("$1,234.56", 9));
+        assertEquals(1, TextDiff.positionBeforeDigitsFromEnd("$", 1));
+    }
+
+    @Test
+    public void appliesEditsToFields() {
+        final StringBuilder text = new StringBuilder("$1234");
+        final int[] selection = new int[1];
+        TextEdit edit = new TextEdit();
+        TextDiff.computeEdit(text, "$1,234", edit);
+        edit.setSelection(6);
+        edit.applyTo(new TextField() {
+            @Override
+            public void replace(int start, int end, CharSequence replacement, int replacementStart, int replacementEnd) {
+                text.replace(start, end, replacement.subSequence(replacementStart, replacementEnd).toString());
+            }
+
+            @Override
+            public void setSelection(int position) {
+                selection[0] = position;
+            }
+        });
+        assertEquals("$1,234", text.toString());
+        assertEquals(6, selection[0]);
+    }
+}
@@ -2,13 +2,15 @@ package me.abhinay.input;
 
 import android.content.Context;
 import android.text.Editable;
+import android.text.Selection;
 import android.text.TextWatcher;
 import android.util.AttributeSet;
 
 import androidx.appcompat.widget.AppCompatEditText;
 
-import java.text.NumberFormat;
-import java.util.Locale;
+import com.github.dkharrat.nexusdialog.currency.CurrencyFormatter;
+import com.github.dkharrat.nexusdialog.currency.CurrencyInput;
+import com.github.dkharrat.nexusdialog.text.TextField;
 
 /**
  * Created by AbhinayMe on 01/01/2019.
@@ -16,15 +18,19 @@ import java.util.Locale;
 
 public class CurrencyEditText extends AppCompatEditText {
 
-    private String current = "";
-    private CurrencyEditText editText = CurrencyEditText.this;
+    private final CurrencyInput input = new CurrencyInput();
+    // the text of this view, which the input applies its edits to
+    private final TextField field = new TextField() {
+        @Override
+        public void replace(int start, int end, CharSequence replacement, int replacementStart, int replacementEnd) {
+            getText().replace(start, end, replacement, replacementStart, replacementEnd);
+        }
 
-    //properties
-    private String Currency = "";
-    private String Separator = ",";
-    private Boolean Spacing = false;
-    private Boolean Delimiter = false;
-    private Boolean Decimals = true;
+        @Override
+        public void setSelection(int position) {
+            Selection.setSelection(getText(), position);
+        }
+    };
 
     public CurrencyEditText(Context context) {
         super(context);
@@ -51,116 +57,47 @@ public class CurrencyEditText extends AppCompatEditText {
 
             @Override
             public void onTextChanged(CharSequence s, int i, int i1, int i2) {
-                if (!s.toString().equals(current)) {
-                    editText.removeTextChangedListener(this);
-
-                    String cleanString = s.toString().replaceAll("[$,.]", "").replaceAll(Currency, "").replaceAll("\\s+", "");
-
-                    if (cleanString.length() != 0) {
-                        try {
-
-                            String currencyFormat = "";
-                            if (Spacing) {
-                                if (Delimiter) {
-                                    currencyFormat = Currency + ". ";
-                                } else {
-                                    currencyFormat = Currency + " ";
-                                }
-                            } else {
-                                if (Delimiter) {
-                                    currencyFormat = Currency + ".";
-                                } else {
-                                    currencyFormat = Currency;
-                                }
-                            }
-
-                            double parsed;
-                            int parsedInt;
-                            String formatted;
-
-                            if (Decimals) {
-                                parsed = Double.parseDouble(cleanString);
-                                formatted = NumberFormat.getCurrencyInstance().format((parsed / 100)).replace(NumberFormat.getCurrencyInstance().getCurrency().getSymbol(), currencyFormat);
-                            } else {
-                                parsedInt = Integer.parseInt(cleanString);
-                                formatted = currencyFormat + NumberFormat.getNumberInstance(Locale.US).format(parsedInt);
-                            }
-
-                            current = formatted;
-
-                            //if decimals are turned off and Separator is set as anything other than commas..
-                            if (!Separator.equals(",") && !Decimals) {
-                                //..replace the commas with the new separator
-                                editText.setText(formatted.replaceAll(",", Separator));
-                            } else {
-                                //since no custom separators were set, proceed with comma separation
-                                editText.setText(formatted);
-                            }
-                            editText.setSelection(formatted.length());
-                        } catch (NumberFormatException e) {
-
-                        }
-                    }
-
-                    editText.addTextChangedListener(this);
-                }
+
             }
 
             @Override
             public void afterTextChanged(Editable editable) {
-
+                input.onTextChanged(editable, Selection.getSelectionEnd(editable), field);
             }
         });
     }
 
-    /*
+    /**
+     * Returns the amount entered, in cents when decimals are used.
      *
+     * @return the amount entered in minor units, or {@link CurrencyFormatter#NO_AMOUNT} if no amount was entered
      */
-    public double getCleanDoubleValue() {
-        double value = 0.0;
-        if (Decimals) {
-            value = Double.parseDouble(editText.getText().toString().trim().replaceAll("[$,]", "").replaceAll(Currency, ""));
-        } else {
-            String cleanString = editText.getText().toString().trim().replaceAll("[$,.]", "").replaceAll(Currency, "").replaceAll("\\s+", "");
-            try {
-                value = Double.parseDouble(cleanString);
-            } catch (NumberFormatException e) {
+    public long getMinorUnits() {
+        return input.getAmount();
+    }
 
-            }
-        }
-        return value;
+    public double getCleanDoubleValue() {
+        return input.getMajorUnits();
     }
 
     public int getCleanIntValue() {
-        int value = 0;
-        if (Decimals) {
-            double doubleValue = Double.parseDouble(editText.getText().toString().trim().replaceAll("[$,]", "").replaceAll(Currency, ""));
-            value = (int) Math.round(doubleValue);
-        } else {
-            String cleanString = editText.getText().toString().trim().replaceAll("[$,.]", "").replaceAll(Currency, "").replaceAll("\\s+", "");
-            try {
-                value = Integer.parseInt(cleanString);
-            } catch (NumberFormatException e) {
-
-            }
-        }
-        return value;
+        return (int) Math.round(input.getMajorUnits());
     }
 
     public void setDecimals(boolean value) {
-        this.Decimals = value;
+        input.setDecimals(value);
     }
 
     public void setCurrency(String currencySymbol) {
-        this.Currency = currencySymbol;
+        input.setCurrencySymbol(currencySymbol);
     }
 
     public void setSpacing(boolean value) {
-        this.Spacing = value;
+        input.setSpacing(value);
     }
 
     public void setDelimiter(boolean value) {
-        this.Delimiter = value;
+        input.setDelimiter(value);
     }
 
     /**
@@ -171,6 +108,6 @@ public class CurrencyEditText extends AppCompatEditText {
      * @value is the custom symbol sent in place of the default comma
      */
     public void setSeparator(String value) {
-        this.Separator = value;
+        input.setSeparator(value);
     }
 }
@@ -0,0 +1,299 @@
+package com.github.dkharrat.nexusdialog;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.github.dkharrat.nexusdialog.controllers.LabeledFieldController;
+import com.github.dkharrat.nexusdialog.validations.AsyncInputValidator;
+import com.github.dkharrat.nexusdialog.validations.InputValidator;
+import com.github.dkharrat.nexusdialog.validations.ValidationError;
+import com.github.dkharrat.nexusdialog.validations.ValidationListener;
+import com.github.dkharrat.nexusdialog.validations.ValidatorFailure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A validation of a form in which {@link AsyncInputValidator}s run on an executor. Results are merged on the main
+ * thread in form order. When the value of a field changes while its validators are running, the running validators
+ * are cancelled and the field is validated again with its new value.
+ * <p/>
+ * The validators of a field run in the order of its chain, with the same short-circuit rules as synchronous
+ * validation: validators run on the main thread until an asynchronous one is reached, at which point the consecutive
+ * asynchronous validators are submitted together, and the rest of the chain only runs once they all complete without a
+ * terminal error. With fail-fast form validation, only the errors of the first invalid field are reported. The errors
+ * of a field are cached by its element once its chain completes, like those of synchronous validation.
+ */
+class AsyncFormValidation {
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+    private final FormModel model;
+    private final Executor executor;
+    private final boolean failFast;
+    private final ValidationListener listener;
+    // the errors of each part of the form, in form order: either a list of errors or an asynchronously validated field
+    private final List<Object> parts = new ArrayList<Object>();
+    private final Map<String, FieldValidation> fieldValidations = new HashMap<String, FieldValidation>();
+    // the number of fields whose chain has not completed yet
+    private int pendingFields;
+    private boolean started;
+    private boolean finished;
+
+    AsyncFormValidation(FormModel model, Executor executor, boolean failFast, ValidationListener listener) {
+        this.model = model;
+        this.executor = executor;
+        this.failFast = failFast;
+        this.listener = listener;
+    }
+
+    /**
+     * Adds errors that are already known, such as the errors of a field without asynchronous validators.
+     */
+    void addErrors(List<ValidationError> errors) {
+        parts.add(errors);
+    }
+
+    /**
+     * Adds a field that has asynchronous validators.
+     */
+    void addField(LabeledFieldController field) {
+        FieldValidation fieldValidation = new FieldValidation(field);
+        parts.add(fieldValidation);
+        fieldValidations.put(field.getFieldIdentifier(), fieldValidation);
+    }
+
+    static boolean hasAsyncValidators(LabeledFieldController field) {
+        for (InputValidator validator : field.getValidators()) {
+            if (validator instanceof AsyncInputValidator) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void start() {
+        started = true;
+        for (FieldValidation fieldValidation : fieldValidations.values()) {
+            fieldValidation.run();
+        }
+        finishIfDone();
+    }
+
+    /**
+     * Validates the field again if its value changed while the validation is in progress.
+     */
+    void onValueChanged(String fieldName) {
+        FieldValidation fieldValidation = fieldValidations.get(fieldName);
+        if (started && !finished && fieldValidation != null) {
+            fieldValidation.cancel();
+            fieldValidation.run();
+        }
+    }
+
+    /**
+     * Cancels the running validators. The listener will not be notified.
+     */
+    void cancel() {
+        finished = true;
+        for (FieldValidation fieldValidation : fieldValidations.values()) {
+            fieldValidation.cancel();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void finishIfDone() {
+        if (finished || pendingFields > 0) {
+            return;
+        }
+
+        finished = true;
+        List<ValidationError> errors = new ArrayList<ValidationError>();
+        for (Object part : parts) {
+            if (part instanceof FieldValidation) {
+                errors.addAll(((FieldValidation) part).errors);
+            } else {
+                errors.addAll((List<ValidationError>) part);
+            }
+            if (failFast && !errors.isEmpty()) {
+                break;
+            }
+        }
+        listener.onValidationComplete(errors);
+    }
+
+    private class FieldValidation {
+        private final LabeledFieldController field;
+        // the errors found so far, in the order of the chain
+        private final List<ValidationError> errors = new ArrayList<ValidationError>();
+        // the asynchronous validators running, which are consecutive in the chain
+        private final List<ValidatorTask> batch = new ArrayList<ValidatorTask>();
+        private InputValidator[] chain;
+        private Object value;
+        // the position in the chain of the next validator to run
+        private int next;
+        private boolean pending;
+
+        FieldValidation(LabeledFieldController field) {
+            this.field = field;
+        }
+
+        void run() {
+            chain = field.getValidators().toArray(new InputValidator[0]);
+            value = model.getValue(field.getFieldIdentifier());
+            next = 0;
+            pending = true;
+            pendingFields++;
+            advance();
+        }
+
+        /**
+         * Runs the validators of the chain from the next one, until the chain ends, a terminal error occurs, or
+         * asynchronous validators are submitted.
+         */
+        private void advance() {
+            while (next < chain.length) {
+                InputValidator validator = chain[next];
+                if (validator instanceof AsyncInputValidator) {
+                    do {
+                        ValidatorTask task = new ValidatorTask(this, chain[next]);
+                        batch.add(task);
+                        executor.execute(task);
+                        next++;
+                    } while (next < chain.length && chain[next] instanceof AsyncInputValidator);
+                    return;
+                }
+
+                next++;
+                ValidationError error = field.validateWith(validator, value);
+                if (error != null) {
+                    errors.add(error);
+                    if (field.isTerminalError(validator)) {
+                        break;
+                    }
+                }
+            }
+            complete();
+        }
+
+        void onTaskDone(ValidatorTask task) {
+            // tasks of a cancelled run have already been accounted for
+            if (!pending || !batch.contains(task)) {
+                return;
+            }
+
+            if (!task.isCancelled() && task.getError() != null && task.isTerminalError()) {
+                // the validators after a terminal error cannot report anything
+                for (int i = batch.indexOf(task) + 1; i < batch.size(); i++) {
+                    batch.get(i).cancel(true);
+                }
+            }
+            for (ValidatorTask other : batch) {
+                if (!other.isDone()) {
+                    return;
+                }
+            }
+
+            boolean terminated = false;
+            for (ValidatorTask other : batch) {
+                if (other.isCancelled()) {
+                    continue;
+                }
+                ValidationError error = other.getError();
+                if (error != null) {
+                    errors.add(error);
+                    if (other.isTerminalError()) {
+                        terminated = true;
+                        break;
+                    }
+                }
+            }
+            batch.clear();
+
+            if (terminated) {
+                complete();
+            } else {
+                advance();
+            }
+        }
+
+        private void complete() {
+            // the errors are those of the current value, as the field is validated again when its value changes
+            FormElementController element = field;
+            element.setCachedValidationErrors(errors.isEmpty()
+                    ? Collections.<ValidationError>emptyList() : new ArrayList<ValidationError>(errors));
+            pending = false;
+            pendingFields--;
+            finishIfDone();
+        }
+
+        void cancel() {
+            for (ValidatorTask task : batch) {
+                task.cancel(true);
+            }
+            batch.clear();
+            errors.clear();
+            if (pending) {
+                pending = false;
+                pendingFields--;
+            }
+        }
+    }
+
+    private class ValidatorTask extends FutureTask<ValidationError> {
+        final FieldValidation owner;
+        final InputValidator validator;
+
+        ValidatorTask(FieldValidation owner, final InputValidator validator) {
+            super(new Callable<ValidationError>() {
+                // captured when the task is created, as the field may be validated again with a new value
+                private final Object value = owner.value;
+                private final LabeledFieldController field = owner.field;
+
+                @Override
+                public ValidationError call() {
+                    return validator.validate(value, field.getFieldIdentifier(), field.getLabel());
+                }
+            });
+            this.owner = owner;
+            this.validator = validator;
+        }
+
+        @Override
+        protected void done() {
+            MAIN_HANDLER.post(new Runnable() {
+                @Override
+                public void run() {
+                    if (!finished) {
+                        owner.onTaskDone(ValidatorTask.this);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Returns the result of the validator once done. A validator that throws is reported as a
+         * {@link ValidatorFailure} of the field rather than rethrown on the main thread.
+         */
+        ValidationError getError() {
+            try {
+                return get();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                return new ValidatorFailure(owner.field.getFieldIdentifier(), owner.field.getLabel(), e.getCause());
+            }
+        }
+
+        boolean isTerminalError() {
+            // the input of the field cannot be considered valid once one of its validators failed
+            return owner.field.isTerminalError(validator) || getError() instanceof ValidatorFailure;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.dkharrat.nexusdialog;
+
+import com.github.dkharrat.nexusdialog.validations.CrossFieldRule;
+import com.github.dkharrat.nexusdialog.validations.ValidationError;
+import com.github.dkharrat.nexusdialog.validations.ValidationSink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates the {@link CrossFieldRule}s of a form. Rules are indexed by the fields they read, and their errors are
+ * cached until one of these fields changes, so that a change only evaluates the rules depending on the changed field.
+ */
+class CrossFieldRuleEngine {
+    private final List<RuleState> rules = new ArrayList<RuleState>();
+    // the rules depending on each field
+    private final Map<String, List<RuleState>> rulesByField = new HashMap<String, List<RuleState>>();
+
+    void addRule(CrossFieldRule rule) {
+        if (findRule(rule) != null) {
+            return;
+        }
+
+        RuleState state = new RuleState(rule);
+        rules.add(state);
+        for (String field : rule.getFields()) {
+            List<RuleState> dependents = rulesByField.get(field);
+            if (dependents == null) {
+                dependents = new ArrayList<RuleState>(1);
+                rulesByField.put(field, dependents);
+            }
+            dependents.add(state);
+        }
+    }
+
+    void removeRule(CrossFieldRule rule) {
+        RuleState state = findRule(rule);
+        if (state == null) {
+            return;
+        }
+
+        rules.remove(state);
+        for (String field : rule.getFields()) {
+            List<RuleState> dependents = rulesByField.get(field);
+            if (dependents != null) {
+                dependents.remove(state);
+                if (dependents.isEmpty()) {
+                    rulesByField.remove(field);
+                }
+            }
+        }
+    }
+
+    private RuleState findRule(CrossFieldRule rule) {
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i).rule == rule) {
+                return rules.get(i);
+            }
+        }
+        return null;
+    }
+
+    boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    List<CrossFieldRule> getRules() {
+        List<CrossFieldRule> result = new ArrayList<CrossFieldRule>(rules.size());
+        for (RuleState state : rules) {
+            result.add(state.rule);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Marks the rules depending on the specified field for evaluation.
+     *
+     * @return the rules depending on the field, which must not be modified
+     */
+    List<CrossFieldRule> onValueChanged(String fieldName) {
+        List<RuleState> dependents = rulesByField.get(fieldName);
+        if (dependents == null) {
+            return Collections.emptyList();
+        }
+
+        List<CrossFieldRule> result = new ArrayList<CrossFieldRule>(dependents.size());
+        for (int i = 0; i < dependents.size(); i++) {
+            dependents.get(i).dirty = true;
+            result.add(dependents.get(i).rule);
+        }
+        return result;
+    }
+
+    /**
+     * Marks all the rules for evaluation.
+     */
+    void invalidate() {
+        for (int i = 0; i < rules.size(); i++) {
+            rules.get(i).dirty = true;
+        }
+    }
+
+    /**
+     * Passes the errors of all the rules to the sink, in the order the rules were added, evaluating the rules whose
+     * fields changed.
+     *
+     * @return the number of errors
+     */
+    int evaluateInto(FormModel model, ValidationSink sink) {
+        int count = 0;
+        for (int i = 0; i < rules.size(); i++) {
+            List<ValidationError> errors = rules.get(i).getErrors(model);
+            for (int j = 0; j < errors.size(); j++) {
+                sink.addError(errors.get(j));
+            }
+            count += errors.size();
+        }
+        return count;
+    }
+
+    /**
+     * Adds the errors of the rules reading the specified field that are attributed to this field to the list,
+     * evaluating these rules if needed.
+     */
+    void collectFieldErrors(FormModel model, String fieldName, List<ValidationError> result) {
+        List<RuleState> dependents = rulesByField.get(fieldName);
+        if (dependents == null) {
+            return;
+        }
+
+        for (int i = 0; i < dependents.size(); i++) {
+            List<ValidationError> errors = dependents.get(i).getErrors(model);
+            for (int j = 0; j < errors.size(); j++) {
+                if (fieldName.equals(errors.get(j).getFieldName())) {
+                    result.add(errors.get(j));
+                }
+            }
+        }
+    }
+
+    private static class RuleState implements ValidationSink {
+        private final CrossFieldRule rule;
+        private final List<ValidationError> errors = new ArrayList<ValidationError>(1);
+        private boolean dirty = true;
+
+        RuleState(CrossFieldRule rule) {
+            this.rule = rule;
+        }
+
+        List<ValidationError> getErrors(FormModel model) {
+            if (dirty) {
+                errors.clear();
+                rule.evaluate(model, this);
+                dirty = false;
+            }
+            return errors;
+        }
+
+        @Override
+        public void addError(ValidationError error) {
+            errors.add(error);
+        }
+    }
+}
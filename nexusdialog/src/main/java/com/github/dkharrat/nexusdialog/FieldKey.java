@@ -0,0 +1,89 @@
+package com.github.dkharrat.nexusdialog;
+
+/**
+ * A typed key that identifies a field declared in a {@link FormSchema}. Keys are created by {@link FormSchema.Builder}
+ * and give {@link SchemaFormModel} direct access to the storage slot of their field, without looking up the field by
+ * name. Fields of primitive types are declared with the specialized keys {@link IntKey}, {@link LongKey},
+ * {@link DoubleKey} and {@link BooleanKey}, whose values are stored unboxed.
+ *
+ * @param <T> the type of the field's value
+ */
+public class FieldKey<T> {
+    static final int KIND_OBJECT = 0;
+    static final int KIND_INT = 1;
+    static final int KIND_LONG = 2;
+    static final int KIND_DOUBLE = 3;
+    static final int KIND_BOOLEAN = 4;
+
+    private final String name;
+    private final Class<T> type;
+    final int kind;
+    final int slot;
+    FormSchema schema;
+
+    FieldKey(String name, Class<T> type, int kind, int slot) {
+        this.name = name;
+        this.type = type;
+        this.kind = kind;
+        this.slot = slot;
+    }
+
+    /**
+     * Returns the name of the field, which is the identifier of its form element.
+     *
+     * @return the name of the field
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the type of the field's value. For primitive fields, the wrapper type is returned.
+     *
+     * @return the type of the field's value
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A key of a field holding an <code>int</code>.
+     */
+    public static final class IntKey extends FieldKey<Integer> {
+        IntKey(String name, int slot) {
+            super(name, Integer.class, KIND_INT, slot);
+        }
+    }
+
+    /**
+     * A key of a field holding a <code>long</code>.
+     */
+    public static final class LongKey extends FieldKey<Long> {
+        LongKey(String name, int slot) {
+            super(name, Long.class, KIND_LONG, slot);
+        }
+    }
+
+    /**
+     * A key of a field holding a <code>double</code>.
+     */
+    public static final class DoubleKey extends FieldKey<Double> {
+        DoubleKey(String name, int slot) {
+            super(name, Double.class, KIND_DOUBLE, slot);
+        }
+    }
+
+    /**
+     * A key of a field holding a <code>boolean</code>.
+     */
+    public static final class BooleanKey extends FieldKey<Boolean> {
+        BooleanKey(String name, int slot) {
+            super(name, Boolean.class, KIND_BOOLEAN, slot);
+        }
+    }
+}
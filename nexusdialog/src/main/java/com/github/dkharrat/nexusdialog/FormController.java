@@ -1,18 +1,40 @@
 package com.github.dkharrat.nexusdialog;
 
 import android.content.Context;
+import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewParent;
+
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.github.dkharrat.nexusdialog.controllers.FormSectionController;
 import com.github.dkharrat.nexusdialog.controllers.LabeledFieldController;
+import com.github.dkharrat.nexusdialog.utils.FormExecutors;
+import com.github.dkharrat.nexusdialog.validations.AsyncInputValidator;
+import com.github.dkharrat.nexusdialog.validations.CrossFieldRule;
+import com.github.dkharrat.nexusdialog.validations.FieldDependentValidator;
+import com.github.dkharrat.nexusdialog.validations.FieldValidationErrorDisplay;
+import com.github.dkharrat.nexusdialog.validations.InputValidator;
 import com.github.dkharrat.nexusdialog.validations.PerFieldValidationErrorDisplay;
 import com.github.dkharrat.nexusdialog.validations.ValidationError;
 import com.github.dkharrat.nexusdialog.validations.ValidationErrorDisplay;
+import com.github.dkharrat.nexusdialog.validations.ValidationListener;
+import com.github.dkharrat.nexusdialog.validations.ValidationSink;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <code>FormController</code> is the main class that manages the form elements of NexusDialog. It provides simple APIs
@@ -22,10 +44,31 @@ import java.util.List;
  * the data. Form elements use the model to retrieve current field values and set them upon user input.
  */
 public class FormController {
+    // below this number of fields to validate, parallel validation costs more than it saves
+    private static final int MIN_PARALLEL_FIELDS = 16;
+
     private final List<FormSectionController> sectionControllers = new ArrayList<FormSectionController>();
+    private final List<FormSectionController> unmodifiableSections = Collections.unmodifiableList(sectionControllers);
+    private final Map<String, FormSectionController> sectionsByName = new HashMap<String, FormSectionController>();
+    // the elements bound to each field, in the order they were added to the form
+    private final Map<String, List<FormElementController>> elementsByName =
+            new HashMap<String, List<FormElementController>>();
 
     private FormModel model;
     private ValidationErrorDisplay validationErrorDisplay;
+    private FormRecyclerAdapter recyclerAdapter;
+    private final FormViewInflater viewInflater;
+    private ProgressiveViewBuilder progressiveViewBuilder;
+    // fields whose value changed since the last validation of the form
+    private final Set<String> changedFields = new HashSet<String>();
+    private Executor validationExecutor = FormExecutors.validation();
+    private AsyncFormValidation asyncValidation;
+    private boolean parallelValidation;
+    private boolean failFast;
+    private final LiveValidationScheduler liveValidationScheduler = new LiveValidationScheduler(this);
+    private final CrossFieldRuleEngine ruleEngine = new CrossFieldRuleEngine();
+    // fields having a FieldDependentValidator, by the fields they depend on, or null until needed again
+    private Map<String, List<LabeledFieldController>> dependentFields;
 
     /**
      * Constructs a new FormController.
@@ -35,7 +78,10 @@ public class FormController {
      */
     public FormController(Context context, FormModel formModel) {
         this.model = formModel;
+        this.viewInflater = new FormViewInflater(context);
         setValidationErrorsDisplayMethod(new PerFieldValidationErrorDisplay(context, this));
+        // cached validation results rely on change notifications, even if the form's views are never created
+        registerFormModelListener();
     }
 
     /**
@@ -53,23 +99,52 @@ public class FormController {
      * @param formModel the model to use
      */
     public void setModel(FormModel formModel) {
+        if (model != null) {
+            model.removeModelListener(modelListener);
+        }
         this.model = formModel;
+        liveValidationScheduler.cancel();
+        invalidateValidation();
         registerFormModelListener();
     }
 
+    /**
+     * Returns the inflater used to create the views of this form's elements.
+     *
+     * @return the inflater used to create the views of this form's elements
+     */
+    public FormViewInflater getViewInflater() {
+        return viewInflater;
+    }
+
+    /**
+     * Starts inflating the views of the specified number of labeled field rows on a background thread. The rows are
+     * used when the views of the form are created, which takes inflation work off the main thread. This method is
+     * best called at the beginning of form initialization, so that inflation runs while the fields are being added.
+     *
+     * @param count the number of rows to pre-inflate, typically the number of fields visible on screen
+     */
+    public void prefetchRows(int count) {
+        viewInflater.prefetch(R.layout.form_labeled_element, count);
+    }
+
     private void registerFormModelListener() {
+        if (model == null) {
+            return;
+        }
         // unregister listener first to make sure we only have one listener registered.
-        getModel().removePropertyChangeListener(modelListener);
-        getModel().addPropertyChangeListener(modelListener);
+        model.removeModelListener(modelListener);
+        model.addModelListener(modelListener);
     }
 
     /**
      * Returns a list of the sections of this form.
      *
-     * @return a list containing all the <code>FormSectionController</code>'s of this form
+     * @return an unmodifiable list containing all the <code>FormSectionController</code>'s of this form. Use
+     *         {@link #addSection(FormSectionController)} and {@link #removeSection(FormSectionController)} to change it.
      */
     public List<FormSectionController> getSections() {
-        return sectionControllers;
+        return unmodifiableSections;
     }
 
     /**
@@ -77,15 +152,10 @@ public class FormController {
      *
      * @param name  the name of the section
      * @return      the instance of <code>FormSectionController</code> with the specified name, or null if no such
-     *              section exists
+     *              section exists. If several sections have the same name, the first one added is returned.
      */
     public FormSectionController getSection(String name) {
-        for (FormSectionController section : getSections()) {
-            if (section.getFieldIdentifier().equals(name)) {
-                return section;
-            }
-        }
-        return null;
+        return sectionsByName.get(name);
     }
 
     /**
@@ -96,6 +166,14 @@ public class FormController {
      */
     public void addSection(FormSectionController section, int position) {
         sectionControllers.add(position, section);
+        if (!sectionsByName.containsKey(section.getFieldIdentifier())) {
+            sectionsByName.put(section.getFieldIdentifier(), section);
+        }
+
+        for (FormElementController element : section.getElements()) {
+            indexElement(element);
+        }
+        section.addOnElementsChangedListener(sectionListener);
     }
 
     /**
@@ -107,21 +185,83 @@ public class FormController {
         addSection(section, sectionControllers.size());
     }
 
+    /**
+     * Removes the specified section and its elements from the form.
+     *
+     * @param section   the form section to remove
+     * @return          true if the section was part of the form, otherwise false
+     */
+    public boolean removeSection(FormSectionController section) {
+        if (!sectionControllers.remove(section)) {
+            return false;
+        }
+
+        section.removeOnElementsChangedListener(sectionListener);
+        String name = section.getFieldIdentifier();
+        if (sectionsByName.get(name) == section) {
+            sectionsByName.remove(name);
+            for (FormSectionController other : sectionControllers) {
+                if (Objects.equals(other.getFieldIdentifier(), name)) {
+                    sectionsByName.put(name, other);
+                    break;
+                }
+            }
+        }
+        for (FormElementController element : section.getElements()) {
+            unindexElement(element);
+        }
+        return true;
+    }
+
     /**
      * Returns the corresponding <code>FormElementController</code> from the specified name.
      *
      * @param name  the name of the form element
      * @return      the instance of <code>FormElementController</code> with the specified name, or null if no such
-     *              element exists
+     *              element exists. If several sections have an element with the same name, the one that was added to
+     *              the form first is returned; such elements also share the same model value.
      */
     public FormElementController getElement(String name) {
-        for (FormSectionController section : getSections()) {
-            FormElementController element = section.getElement(name);
-            if (element != null) {
-                return element;
-            }
+        List<FormElementController> elements = elementsByName.get(name);
+        return elements != null ? elements.get(0) : null;
+    }
+
+    /**
+     * Returns all the elements with the specified name, which share the same model value.
+     */
+    private List<FormElementController> getElements(String name) {
+        List<FormElementController> elements = elementsByName.get(name);
+        return elements != null ? elements : Collections.<FormElementController>emptyList();
+    }
+
+    private void indexElement(FormElementController element) {
+        element.setForm(this);
+        dependentFields = null;
+        List<FormElementController> elements = elementsByName.get(element.getFieldIdentifier());
+        if (elements == null) {
+            elements = new ArrayList<FormElementController>(1);
+            elementsByName.put(element.getFieldIdentifier(), elements);
+        }
+        if (!elements.contains(element)) {
+            elements.add(element);
+        }
+    }
+
+    private void unindexElement(FormElementController element) {
+        if (element.getForm() == this) {
+            element.setForm(null);
+        }
+        if (validationErrorDisplay instanceof FieldValidationErrorDisplay) {
+            // the display must not keep the error of an element that is no longer part of the form
+            ((FieldValidationErrorDisplay) validationErrorDisplay).showFieldErrors(element,
+                    Collections.<ValidationError>emptyList());
+        }
+        dependentFields = null;
+        String name = element.getFieldIdentifier();
+        List<FormElementController> elements = elementsByName.get(name);
+        if (elements != null && elements.remove(element) && elements.isEmpty()) {
+            elementsByName.remove(name);
         }
-        return null;
     }
 
     /**
@@ -148,32 +288,406 @@ public class FormController {
     }
 
     /**
-     * Returns a list of validation errors of the form's input
+     * Writes the input of all fields that has not been written to the model yet, such as input of text fields that
+     * commit their changes after a delay. This method should be called before reading the model to submit the form.
+     * Validating the input of the form also commits pending input.
+     */
+    public void commitPendingInput() {
+        for (FormSectionController section : getSections()) {
+            for (FormElementController element : section.getElements()) {
+                if (element instanceof LabeledFieldController) {
+                    ((LabeledFieldController) element).commitPendingInput();
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a validation rule involving several fields. The rule is evaluated along with the validators of the fields,
+     * and evaluated again only when one of the fields it reads changes. Its errors are reported after the errors of
+     * the fields' validators, and shown for the fields they name.
+     *
+     * @param rule  the rule to add
+     */
+    public void addRule(CrossFieldRule rule) {
+        ruleEngine.addRule(rule);
+    }
+
+    /**
+     * Removes a validation rule added with {@link #addRule(CrossFieldRule)}.
+     *
+     * @param rule  the rule to remove
+     */
+    public void removeRule(CrossFieldRule rule) {
+        ruleEngine.removeRule(rule);
+    }
+
+    /**
+     * Returns the validation rules involving several fields of this form.
+     *
+     * @return an unmodifiable list of the rules of this form, in the order they were added
+     */
+    public List<CrossFieldRule> getRules() {
+        return ruleEngine.getRules();
+    }
+
+    /**
+     * Returns a list of validation errors of the form's input.
+     * <p/>
+     * The errors of each field are cached until the field's value changes, so only the fields that changed since the
+     * last validation are validated again, along with the fields having a {@link FieldDependentValidator} that depends
+     * on a changed field. Values must be set through {@link FormModel#setValue(String, Object)} for changes to be
+     * detected; otherwise call {@link #invalidateValidation()}.
      *
      * @return a list of validation errors of the form's input
      */
     public List<ValidationError> validateInput() {
-        List<ValidationError> errors = new ArrayList<ValidationError>();
+        final List<ValidationError> errors = new ArrayList<ValidationError>();
+        validateInto(new ValidationSink() {
+            @Override
+            public void addError(ValidationError error) {
+                errors.add(error);
+            }
+        });
+        return errors;
+    }
+
+    /**
+     * Validates the form's input like {@link #validateInput()}, passing the validation errors to the specified sink
+     * in form order. Since the errors of each field are cached, this method does not allocate anything when the input
+     * of the form is valid and unchanged fields are not validated again, which makes it suitable for validating the
+     * form while the user types.
+     *
+     * @param sink  the sink that receives the validation errors
+     * @return the number of validation errors
+     */
+    public int validateInto(ValidationSink sink) {
+        if (parallelValidation) {
+            validateStaleFieldsInParallel();
+        }
+
+        // lists are iterated by index, as their iterators are allocated
+        int count = 0;
+        for (int s = 0; s < sectionControllers.size(); s++) {
+            List<FormElementController> elements = sectionControllers.get(s).getElements();
+            for (int i = 0; i < elements.size(); i++) {
+                FormElementController element = elements.get(i);
+                if (element instanceof LabeledFieldController) {
+                    List<ValidationError> fieldErrors = getValidationErrors((LabeledFieldController) element);
+                    for (int j = 0; j < fieldErrors.size(); j++) {
+                        sink.addError(fieldErrors.get(j));
+                    }
+                    count += fieldErrors.size();
+                    if (failFast && count > 0) {
+                        // fields after this one are not validated, so their dependencies must be kept
+                        return count;
+                    }
+                }
+            }
+        }
+        changedFields.clear();
+        count += ruleEngine.evaluateInto(getModel(), sink);
+
+        return count;
+    }
+
+    /**
+     * Indicates whether validation of the form stops at the first invalid field.
+     *
+     * @return true if validation stops at the first invalid field, otherwise false
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Specifies whether validation of the form stops at the first invalid field, in form order. When enabled,
+     * {@link #validateInput()} only returns the errors of the first invalid field and does not validate the fields
+     * after it, which makes submitting a long form with an error near the top cheaper. With parallel validation, the
+     * fields are still all validated, but only the errors of the first invalid field are returned. Default is false.
+     * <p/>
+     * See {@link LabeledFieldController#setFailFast(boolean)} to stop at the first error of a field.
+     *
+     * @param failFast if true, validation stops at the first invalid field
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * Validates the form's input without blocking the calling thread on {@link AsyncInputValidator}s, which run on the
+     * validation executor. Other validators run on the calling thread, using the cached results of unchanged fields as
+     * {@link #validateInput()} does. If the value of a field changes before its validators complete, the stale results
+     * are cancelled and the field is validated again. Starting another asynchronous validation cancels this one.
+     * <p/>
+     * The validators of a field run in the same order and stop at the same errors as with {@link #validateInput()}:
+     * an asynchronous validator is only submitted once the validators before it in the chain passed, consecutive
+     * asynchronous validators run concurrently, and a terminal error from one of them skips the rest of the chain.
+     * With {@link #setFailFast(boolean)}, only the errors of the first invalid field are reported. The errors of fields
+     * with asynchronous validators are cached once their chain completes, and the rules added with
+     * {@link #addRule(CrossFieldRule)} are evaluated once all the fields are validated.
+     * <p/>
+     * This method must be called on the main thread.
+     *
+     * @param listener  the listener notified on the main thread with the validation errors of the form's input
+     */
+    public void validateInputAsync(final ValidationListener listener) {
+        cancelAsyncValidation();
 
+        asyncValidation = new AsyncFormValidation(getModel(), validationExecutor, failFast, new ValidationListener() {
+            @Override
+            public void onValidationComplete(final List<ValidationError> errors) {
+                asyncValidation = null;
+                // rules are evaluated once the fields are validated, since values may have changed in the meantime
+                if (!failFast || errors.isEmpty()) {
+                    ruleEngine.evaluateInto(getModel(), new ValidationSink() {
+                        @Override
+                        public void addError(ValidationError error) {
+                            errors.add(error);
+                        }
+                    });
+                }
+                listener.onValidationComplete(errors);
+            }
+        });
         for (FormSectionController section : getSections()) {
             for (FormElementController element : section.getElements()) {
                 if (element instanceof LabeledFieldController) {
                     LabeledFieldController field = (LabeledFieldController)element;
-                    errors.addAll(field.validateInput());
+                    if (AsyncFormValidation.hasAsyncValidators(field)) {
+                        field.commitPendingInput();
+                        if (dependsOnChangedField(field)) {
+                            // changed fields are forgotten below, so errors cached before the change must be discarded
+                            element.setCachedValidationErrors(null);
+                        }
+                        asyncValidation.addField(field);
+                    } else {
+                        asyncValidation.addErrors(getValidationErrors(field));
+                    }
                 }
             }
         }
+        changedFields.clear();
+        asyncValidation.start();
+    }
+
+    /**
+     * Cancels the asynchronous validation in progress, if any. Its listener will not be notified.
+     */
+    public void cancelAsyncValidation() {
+        if (asyncValidation != null) {
+            asyncValidation.cancel();
+            asyncValidation = null;
+        }
+    }
+
+    /**
+     * Sets the executor that runs {@link AsyncInputValidator}s during {@link #validateInputAsync(ValidationListener)}.
+     * Default is {@link FormExecutors#validation()}, a small pool shared by all forms.
+     *
+     * @param executor the executor to run asynchronous validators on
+     */
+    public void setValidationExecutor(Executor executor) {
+        this.validationExecutor = executor;
+    }
+
+    /**
+     * Discards the cached validation results of all fields, so that the next validation runs every validator. This is
+     * needed when validation depends on state other than the form's model.
+     */
+    public void invalidateValidation() {
+        changedFields.clear();
+        ruleEngine.invalidate();
+        for (FormSectionController section : getSections()) {
+            for (FormElementController element : section.getElements()) {
+                element.invalidateValidationErrors();
+            }
+        }
+    }
+
+    /**
+     * Indicates if the form's input is validated in parallel.
+     *
+     * @return true if fields are validated in parallel, otherwise false
+     */
+    public boolean isParallelValidation() {
+        return parallelValidation;
+    }
+
+    /**
+     * Specifies whether the form's input is validated in parallel. When enabled, {@link #validateInput()} reads the
+     * values of the fields to validate on the calling thread, then runs their validators on all available cores and
+     * waits for the results, which are returned in form order. This reduces validation time of large forms with
+     * CPU-bound validators. Validators must be thread-safe and must not access views. Default is false.
+     *
+     * @param parallelValidation if true, fields are validated in parallel
+     */
+    public void setParallelValidation(boolean parallelValidation) {
+        this.parallelValidation = parallelValidation;
+    }
 
+    private List<ValidationError> getValidationErrors(LabeledFieldController field) {
+        // committing pending input may change the value and invalidate the cached errors
+        field.commitPendingInput();
+
+        FormElementController element = field;
+        List<ValidationError> errors = element.getCachedValidationErrors();
+        if (errors == null || dependsOnChangedField(field)) {
+            errors = field.validateInput();
+            element.setCachedValidationErrors(errors);
+        }
         return errors;
     }
 
+    private boolean isValidationStale(LabeledFieldController field) {
+        FormElementController element = field;
+        return element.getCachedValidationErrors() == null || dependsOnChangedField(field);
+    }
+
+    /**
+     * Validates the fields without cached validation errors, in parallel if there are enough of them, and caches the
+     * results.
+     */
+    private void validateStaleFieldsInParallel() {
+        List<LabeledFieldController> staleFields = new ArrayList<LabeledFieldController>();
+        for (FormSectionController section : getSections()) {
+            for (FormElementController element : section.getElements()) {
+                if (element instanceof LabeledFieldController) {
+                    ((LabeledFieldController) element).commitPendingInput();
+                }
+            }
+        }
+        for (FormSectionController section : getSections()) {
+            for (FormElementController element : section.getElements()) {
+                if (element instanceof LabeledFieldController && isValidationStale((LabeledFieldController) element)) {
+                    staleFields.add((LabeledFieldController) element);
+                }
+            }
+        }
+        if (staleFields.size() < MIN_PARALLEL_FIELDS) {
+            return;
+        }
+
+        List<List<ValidationError>> results = validateInParallel(staleFields);
+        changedFields.clear();
+        for (int i = 0; i < staleFields.size(); i++) {
+            FormElementController element = staleFields.get(i);
+            element.setCachedValidationErrors(results.get(i));
+        }
+    }
+
+    /**
+     * Validates the specified fields on the computation executor, in contiguous chunks, and returns their errors in
+     * the same order. The values are read on the calling thread, which also validates the first chunk.
+     */
+    private List<List<ValidationError>> validateInParallel(final List<LabeledFieldController> fields) {
+        final int count = fields.size();
+        final Object[] values = new Object[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = getModel().getValue(fields.get(i).getFieldIdentifier());
+        }
+
+        @SuppressWarnings("unchecked")
+        final List<ValidationError>[] results = new List[count];
+        int chunks = Math.min(count, FormExecutors.computationParallelism());
+        List<Future<?>> futures = new ArrayList<Future<?>>(chunks - 1);
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            final int start = count * chunk / chunks;
+            final int end = count * (chunk + 1) / chunks;
+            futures.add(FormExecutors.computation().submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (int i = start; i < end; i++) {
+                        results[i] = fields.get(i).validateValue(values[i]);
+                    }
+                    return null;
+                }
+            }));
+        }
+
+        for (int i = 0, end = count / chunks; i < end; i++) {
+            results[i] = fields.get(i).validateValue(values[i]);
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while validating the form", e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Validator failed", e.getCause());
+            }
+        }
+
+        List<List<ValidationError>> resultList = new ArrayList<List<ValidationError>>(count);
+        Collections.addAll(resultList, results);
+        return resultList;
+    }
+
+    void invalidateDependentFields() {
+        dependentFields = null;
+    }
+
+    /**
+     * Returns the fields having a {@link FieldDependentValidator} that depends on the specified field.
+     */
+    private List<LabeledFieldController> getDependentFields(String fieldName) {
+        if (dependentFields == null) {
+            dependentFields = new HashMap<String, List<LabeledFieldController>>();
+            for (FormSectionController section : sectionControllers) {
+                for (FormElementController element : section.getElements()) {
+                    if (element instanceof LabeledFieldController) {
+                        indexDependencies((LabeledFieldController) element);
+                    }
+                }
+            }
+        }
+
+        List<LabeledFieldController> fields = dependentFields.get(fieldName);
+        return fields != null ? fields : Collections.<LabeledFieldController>emptyList();
+    }
+
+    private void indexDependencies(LabeledFieldController field) {
+        for (InputValidator validator : field.getValidators()) {
+            if (validator instanceof FieldDependentValidator) {
+                for (String dependency : ((FieldDependentValidator) validator).getDependencies()) {
+                    List<LabeledFieldController> fields = dependentFields.get(dependency);
+                    if (fields == null) {
+                        fields = new ArrayList<LabeledFieldController>();
+                        dependentFields.put(dependency, fields);
+                    }
+                    if (!fields.contains(field)) {
+                        fields.add(field);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean dependsOnChangedField(LabeledFieldController field) {
+        if (changedFields.isEmpty()) {
+            return false;
+        }
+
+        for (InputValidator validator : field.getValidators()) {
+            if (validator instanceof FieldDependentValidator) {
+                for (String dependency : ((FieldDependentValidator) validator).getDependencies()) {
+                    if (changedFields.contains(dependency)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Indicates if the current user input is valid.
      *
      * @return  true if the current user input is valid, otherwise false
      */
     public boolean isValidInput() {
-        return validateInput().isEmpty();
+        return validateInto(ValidationSink.DISCARD) == 0;
     }
 
     /**
@@ -183,6 +697,33 @@ public class FormController {
         validationErrorDisplay.showErrors(validateInput());
     }
 
+    /**
+     * Shows an appropriate error message if there are validation errors in the form's input, once the form has been
+     * validated with {@link #validateInputAsync(ValidationListener)}.
+     */
+    public void showValidationErrorsAsync() {
+        validateInputAsync(new ValidationListener() {
+            @Override
+            public void onValidationComplete(List<ValidationError> errors) {
+                validationErrorDisplay.showErrors(errors);
+            }
+        });
+    }
+
+    /**
+     * Validates the specified field and shows its errors, as part of live validation.
+     */
+    void showLiveValidationErrors(LabeledFieldController field) {
+        if (validationErrorDisplay instanceof FieldValidationErrorDisplay) {
+            List<ValidationError> errors = getValidationErrors(field);
+            if (!ruleEngine.isEmpty()) {
+                errors = new ArrayList<ValidationError>(errors);
+                ruleEngine.collectFieldErrors(getModel(), field.getFieldIdentifier(), errors);
+            }
+            ((FieldValidationErrorDisplay) validationErrorDisplay).showFieldErrors(field, errors);
+        }
+    }
+
     /**
      * Remove every validation errors from the form.
      * Is actually a proxy call to {@link ValidationErrorDisplay#resetErrors()}.
@@ -203,29 +744,194 @@ public class FormController {
     /**
      * Adds all the form elements that were added to this <code>FormController</code> inside the specified
      * <code>ViewGroup</code>. This method should be called once the form elements have been added to this controller.
+     * <p/>
+     * When called again after elements have been added, removed or reordered, only the views of the changed elements
+     * are inserted, removed or moved. Views of unchanged elements stay attached and keep their focus and input state.
      *
      * @param containerView the view container to add the form elements within
      */
     public void recreateViews(ViewGroup containerView) {
-        containerView.removeAllViews();
+        cancelProgressiveBuild();
 
+        List<View> views = new ArrayList<View>();
         for (FormSectionController section : getSections()) {
-            ((FormElementController)section).setModel(getModel());
-            containerView.addView(section.getView());
+            prepareElement(section);
+            views.add(section.getView());
 
             for (FormElementController element : section.getElements()) {
-                element.setModel(getModel());
-                containerView.addView(element.getView());
+                prepareElement(element);
+                views.add(element.getView());
             }
         }
 
-        // now that the view is setup, register a listener of the model to update the view on changes
-        registerFormModelListener();
+        removeStaleViews(containerView, new HashSet<View>(views));
+        for (int i = 0; i < views.size(); i++) {
+            placeView(containerView, views.get(i), i);
+        }
+    }
+
+    /**
+     * Associates the element with this form's model and view inflater before its view is created.
+     */
+    void prepareElement(FormElementController element) {
+        element.setModel(getModel());
+        element.setViewInflater(viewInflater);
+    }
+
+    /**
+     * Removes the children of the container that are not part of the specified views.
+     */
+    static void removeStaleViews(ViewGroup containerView, Set<View> views) {
+        for (int i = containerView.getChildCount() - 1; i >= 0; i--) {
+            if (!views.contains(containerView.getChildAt(i))) {
+                containerView.removeViewAt(i);
+            }
+        }
+    }
+
+    /**
+     * Makes sure the view is the child at the specified index of the container, inserting or moving it if needed.
+     */
+    static void placeView(ViewGroup containerView, View view, int index) {
+        if (index < containerView.getChildCount() && containerView.getChildAt(index) == view) {
+            return;
+        }
+
+        ViewParent parent = view.getParent();
+        if (parent instanceof ViewGroup) {
+            ((ViewGroup) parent).removeView(view);
+        }
+        containerView.addView(view, index);
+    }
+
+    /**
+     * Adds all the form elements that were added to this <code>FormController</code> inside the specified
+     * <code>ViewGroup</code>, spreading the work over several frames. On each frame, element views are created and
+     * attached in form order until the frame budget is used up, starting with the top of the form right away. Use this
+     * method instead of {@link #recreateViews(ViewGroup)} for forms that are too large to be built within a frame.
+     * <p/>
+     * Calling either method again before the views are all created cancels the remaining work.
+     *
+     * @param containerView     the view container to add the form elements within
+     * @param frameBudgetMillis the maximum time spent building views per frame, in milliseconds
+     * @param listener          an optional listener that is notified once all the views are attached
+     */
+    public void recreateViewsProgressively(ViewGroup containerView, long frameBudgetMillis, OnViewsCreatedListener listener) {
+        cancelProgressiveBuild();
+
+        List<FormElementController> elements = new ArrayList<FormElementController>();
+        for (FormSectionController section : getSections()) {
+            elements.add(section);
+            elements.addAll(section.getElements());
+        }
+
+        if (elements.isEmpty()) {
+            containerView.removeAllViews();
+            if (listener != null) {
+                listener.onViewsCreated();
+            }
+            return;
+        }
+
+        progressiveViewBuilder = new ProgressiveViewBuilder(this, containerView, elements,
+                TimeUnit.MILLISECONDS.toNanos(frameBudgetMillis), listener);
+        progressiveViewBuilder.start();
     }
 
-    private PropertyChangeListener modelListener = new PropertyChangeListener() {
-        @Override public void propertyChange(PropertyChangeEvent event) {
-            getElement(event.getPropertyName()).refresh();
+    private void cancelProgressiveBuild() {
+        if (progressiveViewBuilder != null) {
+            progressiveViewBuilder.cancel();
+            progressiveViewBuilder = null;
+        }
+    }
+
+    /**
+     * Displays the form elements that were added to this <code>FormController</code> as rows of the specified
+     * <code>RecyclerView</code>. Unlike {@link #recreateViews(ViewGroup)}, element views are only created when their row
+     * is displayed, which makes this method suitable for large forms. Views are released once their row scrolls
+     * off-screen, unless {@link FormRecyclerAdapter#setReleaseRecycledViews(boolean)} is disabled. If the
+     * <code>RecyclerView</code> has no layout manager, a vertical <code>LinearLayoutManager</code> is set.
+     * <p/>
+     * This method should be called once the form elements have been added to this controller, and again whenever
+     * elements are added or removed.
+     *
+     * @param recyclerView  the view to display the form elements in
+     * @return              the adapter that displays the form elements
+     */
+    public FormRecyclerAdapter recreateViews(RecyclerView recyclerView) {
+        cancelProgressiveBuild();
+
+        for (FormSectionController section : getSections()) {
+            prepareElement(section);
+            for (FormElementController element : section.getElements()) {
+                prepareElement(element);
+            }
+        }
+
+        if (recyclerAdapter == null) {
+            recyclerAdapter = new FormRecyclerAdapter(this);
+        } else {
+            recyclerAdapter.updateRows();
+        }
+        if (recyclerView.getLayoutManager() == null) {
+            recyclerView.setLayoutManager(new LinearLayoutManager(recyclerView.getContext()));
+        }
+        if (recyclerView.getAdapter() != recyclerAdapter) {
+            recyclerView.setAdapter(recyclerAdapter);
+        }
+
+        return recyclerAdapter;
+    }
+
+    private final FormSectionController.OnElementsChangedListener sectionListener = new FormSectionController.OnElementsChangedListener() {
+        @Override
+        public void onElementAdded(FormSectionController section, FormElementController element) {
+            indexElement(element);
+        }
+
+        @Override
+        public void onElementRemoved(FormSectionController section, FormElementController element) {
+            unindexElement(element);
+        }
+    };
+
+    private void scheduleLiveValidation(FormElementController element) {
+        if (element instanceof LabeledFieldController && ((LabeledFieldController) element).isLiveValidation()) {
+            liveValidationScheduler.schedule((LabeledFieldController) element);
+        }
+    }
+
+    private final FormModelListener modelListener = new FormModelListener() {
+        @Override public void onValueChanged(FormModel model, String fieldName) {
+            changedFields.add(fieldName);
+            if (asyncValidation != null) {
+                asyncValidation.onValueChanged(fieldName);
+            }
+            for (CrossFieldRule rule : ruleEngine.onValueChanged(fieldName)) {
+                // the errors of a rule may be shown for any of the fields it reads
+                for (String ruleField : rule.getFields()) {
+                    List<FormElementController> ruleElements = getElements(ruleField);
+                    for (int i = 0; i < ruleElements.size(); i++) {
+                        scheduleLiveValidation(ruleElements.get(i));
+                    }
+                }
+            }
+            // fields validated against this one, such as a confirmation field, show errors that may now be stale
+            List<LabeledFieldController> dependents = getDependentFields(fieldName);
+            for (int i = 0; i < dependents.size(); i++) {
+                scheduleLiveValidation(dependents.get(i));
+            }
+            // every element bound to the field displays and validates the same value
+            List<FormElementController> elements = getElements(fieldName);
+            for (int i = 0; i < elements.size(); i++) {
+                FormElementController element = elements.get(i);
+                element.invalidateValidationErrors();
+                scheduleLiveValidation(element);
+                // views of elements that are not displayed yet are up to date once they are created
+                if (element.isViewCreated()) {
+                    element.refresh();
+                }
+            }
         }
     };
 }
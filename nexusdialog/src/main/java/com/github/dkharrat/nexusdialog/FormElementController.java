@@ -1,17 +1,33 @@
 package com.github.dkharrat.nexusdialog;
 
 import android.content.Context;
+import android.view.LayoutInflater;
 import android.view.View;
 
+import androidx.annotation.LayoutRes;
+
+import com.github.dkharrat.nexusdialog.validations.ValidationError;
+
+import java.util.List;
+import java.util.Objects;
+
 /**
  * The base class for all form elements, such as text fields, buttons, sections, etc. Each {@code FormElementController}
  * is referred by a name and has an associated {@link FormModel}.
  */
 public abstract class FormElementController {
+    private static final Object NOT_RENDERED = new Object();
+
     private final Context context;
     private final String fieldIdentifier;
     private FormModel model;
+    private FormViewInflater viewInflater;
+    // the form indexing this element, which is notified when the validators of the element change
+    private FormController form;
     private View view;
+    private Object renderedValue = NOT_RENDERED;
+    // validation errors of the current model value, cached by FormController
+    private List<ValidationError> validationErrors;
 
     /**
      * Constructs a new instance with the specified fieldIdentifier.
@@ -46,6 +62,32 @@ public abstract class FormElementController {
         this.model = model;
     }
 
+    FormController getForm() {
+        return form;
+    }
+
+    void setForm(FormController form) {
+        this.form = form;
+    }
+
+    void setViewInflater(FormViewInflater viewInflater) {
+        this.viewInflater = viewInflater;
+    }
+
+    /**
+     * Inflates the specified layout for the view of this element. If the element belongs to a form, a view that was
+     * pre-inflated by the form's {@link FormViewInflater} is used when available.
+     *
+     * @param layoutResId   the layout to inflate
+     * @return              the inflated view, not attached to any parent
+     */
+    protected View inflate(@LayoutRes int layoutResId) {
+        if (viewInflater != null) {
+            return viewInflater.inflate(layoutResId);
+        }
+        return LayoutInflater.from(context).inflate(layoutResId, null);
+    }
+
     /**
      * Returns the associated model of this form element.
      *
@@ -62,6 +104,7 @@ public abstract class FormElementController {
      */
     public View getView() {
         if (view == null) {
+            invalidateRenderedValue();
             view = createView();
         }
         return view;
@@ -76,6 +119,87 @@ public abstract class FormElementController {
         return view != null;
     }
 
+    /**
+     * Drops the view of this element so that it can be garbage collected. A new view is created the next time
+     * {@link #getView()} is called.
+     */
+    void releaseView() {
+        if (view != null) {
+            onViewReleased();
+            view = null;
+            invalidateRenderedValue();
+        }
+    }
+
+    /**
+     * Records the model value that the view of this element is about to display, and indicates if the view needs to be
+     * updated. Implementations of {@link #refresh()} call this method with the current model value and skip updating
+     * the view if it returns false, which makes refreshing an unchanged element nearly free.
+     *
+     * @param value the current model value of this element
+     * @return      true if the value differs from the value the view last displayed, otherwise false
+     */
+    protected final boolean updateRenderedValue(Object value) {
+        if (renderedValue != NOT_RENDERED && Objects.equals(renderedValue, value)) {
+            return false;
+        }
+        renderedValue = value;
+        return true;
+    }
+
+    /**
+     * Records a value as displayed by the view of this element. Elements call this method before writing a value
+     * entered in their view to the model, so that the resulting refresh does not update the view that produced it.
+     *
+     * @param value the value displayed by the view
+     */
+    protected final void setRenderedValue(Object value) {
+        renderedValue = value;
+    }
+
+    /**
+     * Forgets the value displayed by the view of this element, so that the next refresh updates the view.
+     */
+    protected final void invalidateRenderedValue() {
+        renderedValue = NOT_RENDERED;
+    }
+
+    /**
+     * Called when the view of this element is being released. Subclasses that keep references to views inside the
+     * element's view must clear them here. The view is still returned by {@link #getView()} during this call.
+     */
+    protected void onViewReleased() {
+    }
+
+    List<ValidationError> getCachedValidationErrors() {
+        return validationErrors;
+    }
+
+    void setCachedValidationErrors(List<ValidationError> validationErrors) {
+        this.validationErrors = validationErrors;
+    }
+
+    /**
+     * Discards the validation errors of this element cached by its form, so that the element is validated again the
+     * next time the form validates its input. Subclasses call this method when something other than the model value
+     * affects validation, such as a change of validators.
+     */
+    protected void invalidateValidationErrors() {
+        validationErrors = null;
+    }
+
+    /**
+     * Discards the cached validation errors of this element and lets its form know that the validators of this element
+     * changed, so that the fields they depend on are looked up again. Subclasses call this method when validators are
+     * added or removed.
+     */
+    protected void onValidatorsChanged() {
+        invalidateValidationErrors();
+        if (form != null) {
+            form.invalidateDependentFields();
+        }
+    }
+
     /**
      * Constructs the view for this element.
      *
@@ -84,7 +208,10 @@ public abstract class FormElementController {
     protected abstract View createView();
 
     /**
-     * Refreshes the view of this element to reflect current model.
+     * Refreshes the view of this element to reflect current model. The view is only updated if the model value differs
+     * from the value it displays.
+     *
+     * @see #updateRenderedValue(Object)
      */
     public abstract void refresh();
 
@@ -73,7 +73,7 @@ public abstract class FormFragment extends Fragment {
 
     /**
      * Recreates the views for all the elements that are in the form. This method needs to be called when field are dynamically added or
-     * removed
+     * removed. Only the views of the added, removed or moved elements are updated.
      */
     protected void recreateViews() {
         ViewGroup containerView = (ViewGroup) getActivity().findViewById(R.id.form_elements_container);
@@ -2,14 +2,30 @@ package com.github.dkharrat.nexusdialog;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * <code>FormModel</code> is an abstract class that represents the backing data for a form. It provides a mechanism
  * for form elements to retrieve their values to display to the user and persist changes to the model upon changes.
+ * <p/>
+ * Changes are reported to {@link FormModelListener}s, which are notified without allocating anything. Listeners of
+ * the <code>java.beans</code> API are still supported, but each of their notifications allocates an event.
  */
 public abstract class FormModel {
-    private final PropertyChangeSupport propertyChangeSupport = new PropertyChangeSupport(this);
+    private static final FormModelListener[] NO_LISTENERS = new FormModelListener[0];
+    // marks a field changed during a batch update whose previous value is unknown
+    private static final Object UNKNOWN_VALUE = new Object();
+
+    // listener arrays are replaced on registration, so that dispatching never copies them
+    private FormModelListener[] listeners = NO_LISTENERS;
+    private final Map<String, FormModelListener[]> fieldListeners = new HashMap<String, FormModelListener[]>();
+    private PropertyChangeSupport propertyChangeSupport;
+    // fields changed during the current batch update, mapped to their value before the batch
+    private final Map<String, Object> pendingChanges = new LinkedHashMap<String, Object>();
+    private int updateDepth;
 
     private static boolean objectsEqual(Object a, Object b) {
         return Objects.equals(a, b);
@@ -33,6 +49,21 @@ public abstract class FormModel {
      */
     public abstract Object getBackingValue(String name);
 
+    /**
+     * Sets the value for the specified field in the backing model and returns the value it replaces. The default
+     * implementation calls {@link #getBackingValue(String)} and {@link #setBackingValue(String, Object)}. Subclasses
+     * can override this method to do both with a single lookup.
+     *
+     * @param name     the field name to set the value for
+     * @param newValue the value to set
+     * @return the previous value of the specified field
+     */
+    protected Object replaceBackingValue(String name, Object newValue) {
+        Object curValue = getBackingValue(name);
+        setBackingValue(name, newValue);
+        return curValue;
+    }
+
     /**
      * Returns the value for the specified field name.
      *
@@ -44,16 +75,213 @@ public abstract class FormModel {
     }
 
     /**
-     * Sets a value for the specified field identifier. A property change notification is fired to registered listeners if
-     * the field's value changed.
+     * Sets a value for the specified field identifier. A change notification is fired to registered listeners if the
+     * field's value changed.
      *
      * @param identifier the field identifier to set the value for
      * @param newValue   the value to set
      */
     public final void setValue(String identifier, Object newValue) {
-        Object curValue = getBackingValue(identifier);
-        setBackingValue(identifier, newValue);
-        propertyChangeSupport.firePropertyChange(identifier, curValue, newValue);
+        Object curValue = replaceBackingValue(identifier, newValue);
+        if (!objectsEqual(curValue, newValue)) {
+            fireValueChanged(identifier, curValue, newValue);
+        }
+    }
+
+    /**
+     * Starts a batch update. Until the matching call to {@link #endUpdate()}, values are set without notifying
+     * listeners. Batch updates can be nested, in which case notifications are sent when the outermost batch ends.
+     */
+    public void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * Ends a batch update started by {@link #beginUpdate()}. When the outermost batch ends, listeners are notified
+     * once for each field whose value differs from its value before the batch, no matter how many times it was set.
+     */
+    public void endUpdate() {
+        if (updateDepth == 0) {
+            throw new IllegalStateException("endUpdate() called without matching beginUpdate()");
+        }
+        if (--updateDepth > 0 || pendingChanges.isEmpty()) {
+            return;
+        }
+
+        // listeners may set values again, so work on a copy of the pending changes
+        String[] names = pendingChanges.keySet().toArray(new String[pendingChanges.size()]);
+        Object[] oldValues = pendingChanges.values().toArray();
+        pendingChanges.clear();
+
+        for (int i = 0; i < names.length; i++) {
+            Object newValue = getBackingValue(names[i]);
+            if (oldValues[i] == UNKNOWN_VALUE) {
+                dispatchValueChanged(names[i], null, newValue);
+            } else if (!objectsEqual(oldValues[i], newValue)) {
+                dispatchValueChanged(names[i], oldValues[i], newValue);
+            }
+        }
+    }
+
+    /**
+     * Runs the specified updates within a batch update, so that listeners are notified once per changed field after
+     * all the updates are applied. This is useful to fill a form from a saved record.
+     *
+     * @param updates   the updates to apply
+     * @see #beginUpdate()
+     */
+    public void batch(Runnable updates) {
+        beginUpdate();
+        try {
+            updates.run();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Indicates if a batch update is in progress.
+     *
+     * @return true if change notifications are currently deferred, otherwise false
+     */
+    public boolean isUpdating() {
+        return updateDepth > 0;
+    }
+
+    /**
+     * Notifies registered listeners that the value of the specified field changed. Subclasses that provide other ways
+     * to change values than {@link #setValue(String, Object)} must call this method when a value changes. During a
+     * batch update, the notification is deferred until the batch ends.
+     *
+     * @param name      the name of the field that changed
+     * @param oldValue  the previous value of the field
+     * @param newValue  the new value of the field
+     */
+    protected final void fireValueChanged(String name, Object oldValue, Object newValue) {
+        if (updateDepth > 0) {
+            if (!pendingChanges.containsKey(name)) {
+                pendingChanges.put(name, oldValue);
+            }
+            return;
+        }
+        dispatchValueChanged(name, oldValue, newValue);
+    }
+
+    /**
+     * Notifies registered listeners that the value of the specified field changed, without providing the values. This
+     * avoids boxing values for {@link FormModelListener}s, which read the new value from the model themselves.
+     * <code>PropertyChangeListener</code>s receive the current value of the field and no previous value.
+     *
+     * @param name  the name of the field that changed
+     */
+    protected final void fireValueChanged(String name) {
+        if (updateDepth > 0) {
+            if (!pendingChanges.containsKey(name)) {
+                pendingChanges.put(name, UNKNOWN_VALUE);
+            }
+            return;
+        }
+        dispatchValueChanged(name, null, UNKNOWN_VALUE);
+    }
+
+    private void dispatchValueChanged(String name, Object oldValue, Object newValue) {
+        for (FormModelListener listener : listeners) {
+            listener.onValueChanged(this, name);
+        }
+
+        if (!fieldListeners.isEmpty()) {
+            FormModelListener[] listenersOfField = fieldListeners.get(name);
+            if (listenersOfField != null) {
+                for (FormModelListener listener : listenersOfField) {
+                    listener.onValueChanged(this, name);
+                }
+            }
+        }
+
+        if (propertyChangeSupport != null && propertyChangeSupport.hasListeners(name)) {
+            if (newValue == UNKNOWN_VALUE) {
+                newValue = getBackingValue(name);
+            }
+            propertyChangeSupport.firePropertyChange(name, oldValue, newValue);
+        }
+    }
+
+    /**
+     * Subscribes {@code listener} to change notifications for all fields.
+     *
+     * @param listener the listener to notify
+     */
+    public void addModelListener(FormModelListener listener) {
+        listeners = addListener(listeners, listener);
+    }
+
+    /**
+     * Subscribes {@code listener} to change notifications for the specified field name.
+     *
+     * @param fieldName the name of the field to observe
+     * @param listener  the listener to notify
+     */
+    public void addModelListener(String fieldName, FormModelListener listener) {
+        FormModelListener[] listenersOfField = fieldListeners.get(fieldName);
+        fieldListeners.put(fieldName, addListener(listenersOfField != null ? listenersOfField : NO_LISTENERS, listener));
+    }
+
+    /**
+     * Unsubscribes {@code listener} from change notifications for all fields.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeModelListener(FormModelListener listener) {
+        listeners = removeListener(listeners, listener);
+    }
+
+    /**
+     * Unsubscribes {@code listener} from change notifications for the specified field name.
+     *
+     * @param fieldName the name of the observed field
+     * @param listener  the listener to remove
+     */
+    public void removeModelListener(String fieldName, FormModelListener listener) {
+        FormModelListener[] listenersOfField = fieldListeners.get(fieldName);
+        if (listenersOfField == null) {
+            return;
+        }
+
+        listenersOfField = removeListener(listenersOfField, listener);
+        if (listenersOfField.length == 0) {
+            fieldListeners.remove(fieldName);
+        } else {
+            fieldListeners.put(fieldName, listenersOfField);
+        }
+    }
+
+    private static FormModelListener[] addListener(FormModelListener[] listeners, FormModelListener listener) {
+        FormModelListener[] result = new FormModelListener[listeners.length + 1];
+        System.arraycopy(listeners, 0, result, 0, listeners.length);
+        result[listeners.length] = listener;
+        return result;
+    }
+
+    private static FormModelListener[] removeListener(FormModelListener[] listeners, FormModelListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                if (listeners.length == 1) {
+                    return NO_LISTENERS;
+                }
+                FormModelListener[] result = new FormModelListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, result, 0, i);
+                System.arraycopy(listeners, i + 1, result, i, listeners.length - i - 1);
+                return result;
+            }
+        }
+        return listeners;
+    }
+
+    private PropertyChangeSupport getPropertyChangeSupport() {
+        if (propertyChangeSupport == null) {
+            propertyChangeSupport = new PropertyChangeSupport(this);
+        }
+        return propertyChangeSupport;
     }
 
     /**
@@ -62,7 +290,7 @@ public abstract class FormModel {
      * @see PropertyChangeSupport#addPropertyChangeListener(java.beans.PropertyChangeListener)
      */
     public void addPropertyChangeListener(PropertyChangeListener listener) {
-        propertyChangeSupport.addPropertyChangeListener(listener);
+        getPropertyChangeSupport().addPropertyChangeListener(listener);
     }
 
     /**
@@ -71,7 +299,7 @@ public abstract class FormModel {
      * @see PropertyChangeSupport#addPropertyChangeListener(String, java.beans.PropertyChangeListener)
      */
     public void addPropertyChangeListener(String fieldName, PropertyChangeListener listener) {
-        propertyChangeSupport.addPropertyChangeListener(fieldName, listener);
+        getPropertyChangeSupport().addPropertyChangeListener(fieldName, listener);
     }
 
     /**
@@ -80,7 +308,7 @@ public abstract class FormModel {
      * @see PropertyChangeSupport#removePropertyChangeListener(java.beans.PropertyChangeListener)
      */
     public void removePropertyChangeListener(PropertyChangeListener listener) {
-        propertyChangeSupport.removePropertyChangeListener(listener);
+        getPropertyChangeSupport().removePropertyChangeListener(listener);
     }
 
     /**
@@ -89,6 +317,6 @@ public abstract class FormModel {
      * @see PropertyChangeSupport#removePropertyChangeListener(String, java.beans.PropertyChangeListener)
      */
     public void removePropertyChangeListener(String fieldName, PropertyChangeListener listener) {
-        propertyChangeSupport.removePropertyChangeListener(fieldName, listener);
+        getPropertyChangeSupport().removePropertyChangeListener(fieldName, listener);
     }
 }
@@ -0,0 +1,19 @@
+package com.github.dkharrat.nexusdialog;
+
+/**
+ * Listener that is notified when the value of a field of a {@link FormModel} changes. Notifications carry no event
+ * object and no values, so dispatching them does not allocate. Listeners read the new value from the model, using the
+ * typed accessors of {@link SchemaFormModel} to avoid boxing where the model supports them.
+ *
+ * @see FormModel#addModelListener(FormModelListener)
+ * @see FormModel#addModelListener(String, FormModelListener)
+ */
+public interface FormModelListener {
+    /**
+     * Called after the value of a field changed.
+     *
+     * @param model     the model containing the field
+     * @param fieldName the name of the field that changed
+     */
+    void onValueChanged(FormModel model, String fieldName);
+}
@@ -0,0 +1,176 @@
+package com.github.dkharrat.nexusdialog;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.widget.FrameLayout;
+
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.github.dkharrat.nexusdialog.controllers.FormSectionController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <code>FormRecyclerAdapter</code> displays the sections and elements of a {@link FormController} as rows of a
+ * <code>RecyclerView</code>. The view of an element is only created once its row is bound for the first time, so the
+ * cost of opening a form depends on the number of rows visible on screen rather than on the size of the form.
+ * <p/>
+ * Only the row containers are recycled. Each element owns its view, which is attached to whichever container displays
+ * the element's row and is never rebound to another element, so all rows share a single view type. By default an
+ * element releases its view when its row scrolls off-screen, so memory is bounded by the number of visible rows; see
+ * {@link #setReleaseRecycledViews(boolean)} to keep views instead.
+ * <p/>
+ * Instances are created by {@link FormController#recreateViews(RecyclerView)}.
+ */
+public class FormRecyclerAdapter extends RecyclerView.Adapter<FormRecyclerAdapter.RowViewHolder> {
+    private final FormController formController;
+    private final List<FormElementController> rows = new ArrayList<FormElementController>();
+    private boolean releaseRecycledViews = true;
+
+    FormRecyclerAdapter(FormController formController) {
+        this.formController = formController;
+        updateRows();
+    }
+
+    /**
+     * Rebuilds the list of rows from the current sections and elements of the form. Only the rows that were
+     * inserted, removed or moved are reported to the <code>RecyclerView</code>.
+     */
+    void updateRows() {
+        final List<FormElementController> oldRows = new ArrayList<FormElementController>(rows);
+        rows.clear();
+        for (FormSectionController section : formController.getSections()) {
+            rows.add(section);
+            rows.addAll(section.getElements());
+        }
+
+        DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldRows.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return rows.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldPosition, int newPosition) {
+                return oldRows.get(oldPosition) == rows.get(newPosition);
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldPosition, int newPosition) {
+                // elements refresh their own views upon model changes
+                return true;
+            }
+        }).dispatchUpdatesTo(this);
+    }
+
+    /**
+     * Indicates if the views of elements are released once their row scrolls off-screen.
+     *
+     * @return true if views are released when their row is recycled, otherwise false
+     */
+    public boolean isReleaseRecycledViews() {
+        return releaseRecycledViews;
+    }
+
+    /**
+     * Specifies whether the view of an element is released when its row scrolls off-screen. When enabled, memory usage
+     * is bounded by the number of visible rows, at the cost of creating the element's view again each time its row is
+     * shown, since views are not rebound to other elements. Pending input is committed to the model before the view is
+     * released. Default is true. When disabled, views are kept by their element once created, which makes scrolling
+     * back cheap but lets memory grow with the rows displayed.
+     *
+     * @param releaseRecycledViews if true, views are released when their row is recycled
+     */
+    public void setReleaseRecycledViews(boolean releaseRecycledViews) {
+        this.releaseRecycledViews = releaseRecycledViews;
+    }
+
+    /**
+     * Returns the element displayed at the specified row.
+     *
+     * @param position the position of the row
+     * @return the element displayed at the specified row
+     */
+    public FormElementController getElement(int position) {
+        return rows.get(position);
+    }
+
+    @Override
+    public int getItemCount() {
+        return rows.size();
+    }
+
+    @Override
+    public RowViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+        FrameLayout rowView = new FrameLayout(parent.getContext());
+        rowView.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+        return new RowViewHolder(rowView);
+    }
+
+    @Override
+    public void onBindViewHolder(RowViewHolder holder, int position) {
+        FormElementController element = rows.get(position);
+        formController.prepareElement(element);
+
+        boolean viewExisted = element.isViewCreated();
+        holder.attach(element);
+        if (viewExisted) {
+            element.refresh();
+        }
+    }
+
+    @Override
+    public void onViewRecycled(RowViewHolder holder) {
+        FormElementController element = holder.detach();
+        if (element != null && releaseRecycledViews) {
+            element.releaseView();
+        }
+    }
+
+    /**
+     * Holds a row of the form. The row view is a container that the element's own view is attached to while bound.
+     */
+    static class RowViewHolder extends RecyclerView.ViewHolder {
+        private FormElementController element;
+
+        RowViewHolder(FrameLayout rowView) {
+            super(rowView);
+        }
+
+        void attach(FormElementController element) {
+            detach();
+
+            View view = element.getView();
+            ViewParent parent = view.getParent();
+            if (parent instanceof ViewGroup) {
+                ((ViewGroup) parent).removeView(view);
+            }
+            ((FrameLayout) itemView).addView(view, new FrameLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+            this.element = element;
+        }
+
+        /**
+         * Detaches the bound element's view from this row.
+         *
+         * @return the element that was bound to this row, or null if the element's view has since been attached to
+         *         another row
+         */
+        FormElementController detach() {
+            FormElementController detached = element;
+            element = null;
+            if (detached == null || !detached.isViewCreated() || detached.getView().getParent() != itemView) {
+                return null;
+            }
+            ((FrameLayout) itemView).removeView(detached.getView());
+            return detached;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.dkharrat.nexusdialog;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <code>FormSchema</code> declares the fields of a form up front, along with the type of their values. Each field is
+ * assigned a slot in a dense array, which lets {@link SchemaFormModel} store values without a map and keep primitive
+ * values unboxed. A schema is immutable and can be shared by all the models of the same form.
+ * <p/>
+ * Schemas are created with a {@link Builder}:
+ * <pre>
+ * FormSchema.Builder builder = new FormSchema.Builder();
+ * FieldKey&lt;String&gt; name = builder.add("name", String.class);
+ * FieldKey.IntKey age = builder.addInt("age");
+ * FormSchema schema = builder.build();
+ * </pre>
+ */
+public final class FormSchema {
+    private final Map<String, FieldKey<?>> keys;
+    private final int objectSlots;
+    private final int primitiveSlots;
+
+    private FormSchema(Map<String, FieldKey<?>> keys, int objectSlots, int primitiveSlots) {
+        this.keys = keys;
+        this.objectSlots = objectSlots;
+        this.primitiveSlots = primitiveSlots;
+    }
+
+    /**
+     * Returns the key of the field with the specified name.
+     *
+     * @param name  the name of the field
+     * @return      the key of the field, or null if no such field is declared
+     */
+    public FieldKey<?> getKey(String name) {
+        return keys.get(name);
+    }
+
+    /**
+     * Returns the keys of all the fields declared in this schema.
+     *
+     * @return an unmodifiable collection of the keys of this schema
+     */
+    public Collection<FieldKey<?>> getKeys() {
+        return Collections.unmodifiableCollection(keys.values());
+    }
+
+    int getObjectSlots() {
+        return objectSlots;
+    }
+
+    int getPrimitiveSlots() {
+        return primitiveSlots;
+    }
+
+    /**
+     * Builds a {@link FormSchema} by declaring its fields one by one.
+     */
+    public static final class Builder {
+        private final Map<String, FieldKey<?>> keys = new HashMap<String, FieldKey<?>>();
+        private int objectSlots;
+        private int primitiveSlots;
+        private boolean built;
+
+        /**
+         * Declares a field holding objects of the specified type.
+         *
+         * @param name  the name of the field
+         * @param type  the type of the field's value
+         * @return      the key of the declared field
+         */
+        public <T> FieldKey<T> add(String name, Class<T> type) {
+            return declare(new FieldKey<T>(name, type, FieldKey.KIND_OBJECT, objectSlots++));
+        }
+
+        /**
+         * Declares a field holding an <code>int</code>.
+         *
+         * @param name  the name of the field
+         * @return      the key of the declared field
+         */
+        public FieldKey.IntKey addInt(String name) {
+            return declare(new FieldKey.IntKey(name, primitiveSlots++));
+        }
+
+        /**
+         * Declares a field holding a <code>long</code>.
+         *
+         * @param name  the name of the field
+         * @return      the key of the declared field
+         */
+        public FieldKey.LongKey addLong(String name) {
+            return declare(new FieldKey.LongKey(name, primitiveSlots++));
+        }
+
+        /**
+         * Declares a field holding a <code>double</code>.
+         *
+         * @param name  the name of the field
+         * @return      the key of the declared field
+         */
+        public FieldKey.DoubleKey addDouble(String name) {
+            return declare(new FieldKey.DoubleKey(name, primitiveSlots++));
+        }
+
+        /**
+         * Declares a field holding a <code>boolean</code>.
+         *
+         * @param name  the name of the field
+         * @return      the key of the declared field
+         */
+        public FieldKey.BooleanKey addBoolean(String name) {
+            return declare(new FieldKey.BooleanKey(name, primitiveSlots++));
+        }
+
+        /**
+         * Creates the schema containing the declared fields. The builder cannot be used anymore afterwards.
+         *
+         * @return the new schema
+         */
+        public FormSchema build() {
+            checkNotBuilt();
+            built = true;
+
+            FormSchema schema = new FormSchema(keys, objectSlots, primitiveSlots);
+            for (FieldKey<?> key : keys.values()) {
+                key.schema = schema;
+            }
+            return schema;
+        }
+
+        private <K extends FieldKey<?>> K declare(K key) {
+            checkNotBuilt();
+            if (keys.containsKey(key.getName())) {
+                throw new IllegalArgumentException("Field with that name already exists");
+            }
+            keys.put(key.getName(), key);
+            return key;
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("Schema has already been built");
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.dkharrat.nexusdialog;
+
+import android.content.Context;
+import android.util.Log;
+import android.view.LayoutInflater;
+import android.view.View;
+
+import androidx.annotation.LayoutRes;
+
+import com.github.dkharrat.nexusdialog.utils.FormExecutors;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * <code>FormViewInflater</code> inflates the layouts of form elements. Layouts can be pre-inflated on a background
+ * thread with {@link #prefetch(int, int)}, typically while the form is being initialized, so that creating the element
+ * views later on the main thread does not need to inflate them. When no pre-inflated view is available, the layout is
+ * inflated synchronously.
+ * <p/>
+ * Only layouts whose views can be constructed off the main thread should be pre-inflated, such as the layouts provided
+ * by NexusDialog.
+ */
+public class FormViewInflater {
+    private static final String TAG = "FormViewInflater";
+
+    private final LayoutInflater inflater;
+    private final LayoutInflater backgroundInflater;
+    private final Map<Integer, Queue<View>> prefetchedViews = new ConcurrentHashMap<Integer, Queue<View>>();
+
+    FormViewInflater(Context context) {
+        this.inflater = LayoutInflater.from(context);
+        // LayoutInflater is not thread-safe, so the background thread gets its own instance
+        this.backgroundInflater = inflater.cloneInContext(context);
+    }
+
+    /**
+     * Starts inflating views of the specified layout on a background thread. The views are handed out by subsequent
+     * calls to {@link #inflate(int)}.
+     *
+     * @param layoutResId   the layout to inflate
+     * @param count         the number of views to inflate
+     */
+    public void prefetch(@LayoutRes final int layoutResId, final int count) {
+        final Queue<View> views = getPrefetchedViews(layoutResId);
+        FormExecutors.background().execute(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < count; i++) {
+                    try {
+                        views.offer(backgroundInflater.inflate(layoutResId, null, false));
+                    } catch (RuntimeException e) {
+                        // the remaining views will be inflated on demand
+                        Log.w(TAG, "Unable to pre-inflate layout", e);
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns a view of the specified layout, using a pre-inflated view if one is available.
+     *
+     * @param layoutResId   the layout to inflate
+     * @return              a view of the specified layout that is not attached to any parent
+     */
+    public View inflate(@LayoutRes int layoutResId) {
+        Queue<View> views = prefetchedViews.get(layoutResId);
+        View view = views != null ? views.poll() : null;
+        return view != null ? view : inflater.inflate(layoutResId, null);
+    }
+
+    /**
+     * Discards the pre-inflated views that have not been used.
+     */
+    public void clear() {
+        prefetchedViews.clear();
+    }
+
+    private Queue<View> getPrefetchedViews(int layoutResId) {
+        Queue<View> views = prefetchedViews.get(layoutResId);
+        if (views == null) {
+            views = new ConcurrentLinkedQueue<View>();
+            prefetchedViews.put(layoutResId, views);
+        }
+        return views;
+    }
+}
@@ -61,7 +61,7 @@ public abstract class FormWithAppCompatActivity extends AppCompatActivity {
 
     /**
      * Recreates the views for all the elements that are in the form. This method needs to be called when field are dynamically added or
-     * removed
+     * removed. Only the views of the added, removed or moved elements are updated.
      */
     protected void recreateViews() {
         ViewGroup containerView = (ViewGroup) this.findViewById(R.id.form_elements_container);
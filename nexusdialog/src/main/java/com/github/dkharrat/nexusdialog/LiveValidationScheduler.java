@@ -0,0 +1,104 @@
+package com.github.dkharrat.nexusdialog;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import com.github.dkharrat.nexusdialog.controllers.LabeledFieldController;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Schedules the live validation of fields whose value changed. Changes of a field are coalesced, so that a field is
+ * validated at most once per frame, or at most once per live validation interval for fields that have one.
+ */
+class LiveValidationScheduler implements Choreographer.FrameCallback {
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+    private final FormController formController;
+    // fields waiting for the next frame
+    private final Set<LabeledFieldController> frameFields = new LinkedHashSet<LabeledFieldController>();
+    private final List<LabeledFieldController> fieldsToValidate = new ArrayList<LabeledFieldController>();
+    private boolean frameCallbackPosted;
+    // fields with an interval that are waiting for their validation, and the task validating each of them
+    private final Map<LabeledFieldController, FieldTask> fieldTasks = new HashMap<LabeledFieldController, FieldTask>();
+
+    LiveValidationScheduler(FormController formController) {
+        this.formController = formController;
+    }
+
+    /**
+     * Schedules the validation of the specified field, unless it is already scheduled.
+     */
+    void schedule(LabeledFieldController field) {
+        long interval = field.getLiveValidationIntervalMillis();
+        if (interval == 0) {
+            if (frameFields.add(field) && !frameCallbackPosted) {
+                frameCallbackPosted = true;
+                Choreographer.getInstance().postFrameCallback(this);
+            }
+            return;
+        }
+
+        FieldTask task = fieldTasks.get(field);
+        if (task == null) {
+            task = new FieldTask(field);
+            fieldTasks.put(field, task);
+        }
+        if (!task.scheduled) {
+            task.scheduled = true;
+            long now = SystemClock.uptimeMillis();
+            MAIN_HANDLER.postAtTime(task, Math.max(now, task.lastRunTime + interval));
+        }
+    }
+
+    /**
+     * Cancels the scheduled validations.
+     */
+    void cancel() {
+        if (frameCallbackPosted) {
+            frameCallbackPosted = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+        frameFields.clear();
+        for (FieldTask task : fieldTasks.values()) {
+            MAIN_HANDLER.removeCallbacks(task);
+        }
+        fieldTasks.clear();
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        frameCallbackPosted = false;
+        // validation may change values and schedule fields again, so work on a copy
+        fieldsToValidate.addAll(frameFields);
+        frameFields.clear();
+        for (int i = 0; i < fieldsToValidate.size(); i++) {
+            formController.showLiveValidationErrors(fieldsToValidate.get(i));
+        }
+        fieldsToValidate.clear();
+    }
+
+    private class FieldTask implements Runnable {
+        private final LabeledFieldController field;
+        private boolean scheduled;
+        private long lastRunTime = Long.MIN_VALUE / 2;
+
+        FieldTask(LabeledFieldController field) {
+            this.field = field;
+        }
+
+        @Override
+        public void run() {
+            scheduled = false;
+            lastRunTime = SystemClock.uptimeMillis();
+            formController.showLiveValidationErrors(field);
+        }
+    }
+}
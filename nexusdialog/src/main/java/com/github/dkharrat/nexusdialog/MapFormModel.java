@@ -15,4 +15,9 @@ public final class MapFormModel extends FormModel {
     public void setBackingValue(String name, Object value) {
         data.put(name, value);
     }
+
+    @Override
+    protected Object replaceBackingValue(String name, Object value) {
+        return data.put(name, value);
+    }
 }
@@ -0,0 +1,13 @@
+package com.github.dkharrat.nexusdialog;
+
+/**
+ * Listener that is notified once the views of all the elements of a form have been created and attached.
+ *
+ * @see FormController#recreateViewsProgressively(android.view.ViewGroup, long, OnViewsCreatedListener)
+ */
+public interface OnViewsCreatedListener {
+    /**
+     * Called on the main thread once every element view of the form is attached to its container.
+     */
+    void onViewsCreated();
+}
@@ -0,0 +1,79 @@
+package com.github.dkharrat.nexusdialog;
+
+import android.view.Choreographer;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates and attaches the views of a form's elements in slices, one slice per frame, so that building a large form
+ * does not block the main thread for longer than the configured budget per frame.
+ */
+class ProgressiveViewBuilder implements Choreographer.FrameCallback {
+    private final FormController formController;
+    private final ViewGroup containerView;
+    private final List<FormElementController> elements;
+    private final long frameBudgetNanos;
+    private final OnViewsCreatedListener listener;
+    private int nextIndex;
+    private boolean cancelled;
+
+    ProgressiveViewBuilder(FormController formController, ViewGroup containerView, List<FormElementController> elements,
+                           long frameBudgetNanos, OnViewsCreatedListener listener) {
+        this.formController = formController;
+        this.containerView = containerView;
+        this.elements = elements;
+        this.frameBudgetNanos = frameBudgetNanos;
+        this.listener = listener;
+    }
+
+    /**
+     * Builds the first slice right away, so that the top of the form is displayed in the next frame, and schedules
+     * the remaining slices on subsequent frames.
+     */
+    void start() {
+        Set<View> existingViews = new HashSet<View>();
+        for (FormElementController element : elements) {
+            if (element.isViewCreated()) {
+                existingViews.add(element.getView());
+            }
+        }
+        FormController.removeStaleViews(containerView, existingViews);
+
+        buildSlice();
+    }
+
+    /**
+     * Stops building the remaining views. The listener will not be notified.
+     */
+    void cancel() {
+        cancelled = true;
+        Choreographer.getInstance().removeFrameCallback(this);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!cancelled) {
+            buildSlice();
+        }
+    }
+
+    private void buildSlice() {
+        long start = System.nanoTime();
+        do {
+            FormElementController element = elements.get(nextIndex);
+            formController.prepareElement(element);
+            FormController.placeView(containerView, element.getView(), nextIndex);
+            nextIndex++;
+        } while (nextIndex < elements.size() && System.nanoTime() - start < frameBudgetNanos);
+
+        if (nextIndex < elements.size()) {
+            Choreographer.getInstance().postFrameCallback(this);
+        } else if (listener != null) {
+            listener.onViewsCreated();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.dkharrat.nexusdialog;
+
+import java.util.BitSet;
+
+/**
+ * A {@link FormModel} whose fields are declared up front by a {@link FormSchema}. Values are stored in arrays indexed by
+ * the slot of their field, and values of primitive fields are stored unboxed, so reading and writing through a
+ * {@link FieldKey} does not hash the field name or allocate.
+ * <p/>
+ * The name-based {@link #getValue(String)} and {@link #setValue(String, Object)} methods used by form elements remain
+ * available. They look up the field's key by name and box primitive values. Accessing a field that is not declared in
+ * the schema throws an <code>IllegalArgumentException</code>.
+ */
+public class SchemaFormModel extends FormModel {
+    private final FormSchema schema;
+    private final Object[] objectValues;
+    private final long[] primitiveValues;
+    private final BitSet assignedPrimitives;
+
+    /**
+     * Creates a model for the fields declared in the specified schema. All fields are initially unset: object fields
+     * are null, and primitive fields return their default value from typed getters and null from
+     * {@link #getValue(String)}.
+     *
+     * @param schema    the schema declaring the fields of the model
+     */
+    public SchemaFormModel(FormSchema schema) {
+        this.schema = schema;
+        this.objectValues = new Object[schema.getObjectSlots()];
+        this.primitiveValues = new long[schema.getPrimitiveSlots()];
+        this.assignedPrimitives = new BitSet(schema.getPrimitiveSlots());
+    }
+
+    /**
+     * Returns the schema declaring the fields of this model.
+     *
+     * @return the schema of this model
+     */
+    public FormSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Returns the value of the specified field. Values of primitive fields are boxed; use the typed getters to avoid it.
+     *
+     * @param key   the key of the field
+     * @return      the value of the field, or null if it is not set
+     */
+    public <T> T get(FieldKey<T> key) {
+        checkKey(key);
+        if (key.kind == FieldKey.KIND_OBJECT) {
+            return key.getType().cast(objectValues[key.slot]);
+        }
+        return key.getType().cast(getPrimitive(key));
+    }
+
+    /**
+     * Sets the value of the specified field and notifies listeners if it changed. Values of primitive fields are
+     * unboxed, and null unsets them.
+     *
+     * @param key   the key of the field
+     * @param value the value to set
+     */
+    public <T> void set(FieldKey<T> key, T value) {
+        checkKey(key);
+        setValue(key.getName(), value);
+    }
+
+    /**
+     * Returns the value of the specified <code>int</code> field, or 0 if it is not set.
+     */
+    public int getInt(FieldKey.IntKey key) {
+        checkKey(key);
+        return (int) primitiveValues[key.slot];
+    }
+
+    /**
+     * Sets the value of the specified <code>int</code> field without boxing it, and notifies listeners if it changed.
+     */
+    public void setInt(FieldKey.IntKey key, int value) {
+        checkKey(key);
+        if (setPrimitive(key, value)) {
+            fireValueChanged(key.getName());
+        }
+    }
+
+    /**
+     * Returns the value of the specified <code>long</code> field, or 0 if it is not set.
+     */
+    public long getLong(FieldKey.LongKey key) {
+        checkKey(key);
+        return primitiveValues[key.slot];
+    }
+
+    /**
+     * Sets the value of the specified <code>long</code> field without boxing it, and notifies listeners if it changed.
+     */
+    public void setLong(FieldKey.LongKey key, long value) {
+        checkKey(key);
+        if (setPrimitive(key, value)) {
+            fireValueChanged(key.getName());
+        }
+    }
+
+    /**
+     * Returns the value of the specified <code>double</code> field, or 0 if it is not set.
+     */
+    public double getDouble(FieldKey.DoubleKey key) {
+        checkKey(key);
+        return Double.longBitsToDouble(primitiveValues[key.slot]);
+    }
+
+    /**
+     * Sets the value of the specified <code>double</code> field without boxing it, and notifies listeners if it changed.
+     */
+    public void setDouble(FieldKey.DoubleKey key, double value) {
+        checkKey(key);
+        if (setPrimitive(key, Double.doubleToLongBits(value))) {
+            fireValueChanged(key.getName());
+        }
+    }
+
+    /**
+     * Returns the value of the specified <code>boolean</code> field, or false if it is not set.
+     */
+    public boolean getBoolean(FieldKey.BooleanKey key) {
+        checkKey(key);
+        return primitiveValues[key.slot] != 0;
+    }
+
+    /**
+     * Sets the value of the specified <code>boolean</code> field without boxing it, and notifies listeners if it changed.
+     */
+    public void setBoolean(FieldKey.BooleanKey key, boolean value) {
+        checkKey(key);
+        if (setPrimitive(key, value ? 1 : 0)) {
+            fireValueChanged(key.getName());
+        }
+    }
+
+    /**
+     * Indicates if the specified field has a value.
+     *
+     * @param key   the key of the field
+     * @return      true if the field is set, otherwise false
+     */
+    public boolean isSet(FieldKey<?> key) {
+        checkKey(key);
+        if (key.kind == FieldKey.KIND_OBJECT) {
+            return objectValues[key.slot] != null;
+        }
+        return assignedPrimitives.get(key.slot);
+    }
+
+    @Override
+    public Object getBackingValue(String name) {
+        return getBackingValue(getKey(name));
+    }
+
+    @Override
+    public void setBackingValue(String name, Object value) {
+        setBackingValue(getKey(name), value);
+    }
+
+    @Override
+    protected Object replaceBackingValue(String name, Object value) {
+        FieldKey<?> key = getKey(name);
+        Object curValue = getBackingValue(key);
+        setBackingValue(key, value);
+        return curValue;
+    }
+
+    private Object getBackingValue(FieldKey<?> key) {
+        if (key.kind == FieldKey.KIND_OBJECT) {
+            return objectValues[key.slot];
+        }
+        return getPrimitive(key);
+    }
+
+    private void setBackingValue(FieldKey<?> key, Object value) {
+        if (key.kind == FieldKey.KIND_OBJECT) {
+            objectValues[key.slot] = key.getType().cast(value);
+        } else if (value == null) {
+            assignedPrimitives.clear(key.slot);
+            primitiveValues[key.slot] = 0;
+        } else {
+            primitiveValues[key.slot] = toPrimitive(key, value);
+            assignedPrimitives.set(key.slot);
+        }
+    }
+
+    private FieldKey<?> getKey(String name) {
+        FieldKey<?> key = schema.getKey(name);
+        if (key == null) {
+            throw new IllegalArgumentException("Field '" + name + "' is not declared in the schema");
+        }
+        return key;
+    }
+
+    private void checkKey(FieldKey<?> key) {
+        if (key.schema != schema) {
+            throw new IllegalArgumentException("Field '" + key.getName() + "' is not declared in the schema");
+        }
+    }
+
+    /**
+     * Stores a primitive value and returns whether the field's value changed.
+     */
+    private boolean setPrimitive(FieldKey<?> key, long value) {
+        boolean changed = !assignedPrimitives.get(key.slot) || primitiveValues[key.slot] != value;
+        primitiveValues[key.slot] = value;
+        assignedPrimitives.set(key.slot);
+        return changed;
+    }
+
+    private Object getPrimitive(FieldKey<?> key) {
+        if (!assignedPrimitives.get(key.slot)) {
+            return null;
+        }
+
+        long value = primitiveValues[key.slot];
+        switch (key.kind) {
+            case FieldKey.KIND_INT:
+                return (int) value;
+            case FieldKey.KIND_LONG:
+                return value;
+            case FieldKey.KIND_DOUBLE:
+                return Double.longBitsToDouble(value);
+            default:
+                return value != 0;
+        }
+    }
+
+    private static long toPrimitive(FieldKey<?> key, Object value) {
+        switch (key.kind) {
+            case FieldKey.KIND_INT:
+                return ((Number) value).intValue();
+            case FieldKey.KIND_LONG:
+                return ((Number) value).longValue();
+            case FieldKey.KIND_DOUBLE:
+                return Double.doubleToLongBits(((Number) value).doubleValue());
+            default:
+                return (Boolean) value ? 1 : 0;
+        }
+    }
+}
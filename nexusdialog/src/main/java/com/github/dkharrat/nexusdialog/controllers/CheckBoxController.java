@@ -1,7 +1,6 @@
 package com.github.dkharrat.nexusdialog.controllers;
 
 import android.content.Context;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.CheckBox;
 import android.widget.CompoundButton;
@@ -21,13 +20,15 @@ public class CheckBoxController extends LabeledFieldController {
     }
 
     private void updateElement(CheckBox checkBox) {
-        boolean value = (boolean) getModel().getValue(getFieldIdentifier());
-        checkBox.setChecked(value);
+        Object value = getModel().getValue(getFieldIdentifier());
+        if (updateRenderedValue(value)) {
+            checkBox.setChecked(Boolean.TRUE.equals(value));
+        }
     }
 
     @Override
     protected View createFieldView() {
-        View view = LayoutInflater.from(getContext()).inflate(R.layout.value_checkbox, null);
+        View view = inflate(R.layout.value_checkbox);
 
         CheckBox checkBox = view.findViewById(R.id.checkbox);
         updateElement(checkBox);
@@ -35,6 +36,7 @@ public class CheckBoxController extends LabeledFieldController {
         checkBox.setOnCheckedChangeListener(new CompoundButton.OnCheckedChangeListener() {
             @Override
             public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+                setRenderedValue(isChecked);
                 getModel().setValue(getFieldIdentifier(), isChecked);
             }
         });
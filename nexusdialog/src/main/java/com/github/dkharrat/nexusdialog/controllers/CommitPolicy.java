@@ -0,0 +1,21 @@
+package com.github.dkharrat.nexusdialog.controllers;
+
+/**
+ * Defines when the input of a text field is written to the form's model.
+ */
+public enum CommitPolicy {
+    /**
+     * Input is committed on every change, such as each keystroke.
+     */
+    IMMEDIATE,
+
+    /**
+     * Input is committed once the user has stopped typing for the field's commit delay.
+     */
+    DEBOUNCED,
+
+    /**
+     * Input is committed when the field loses focus.
+     */
+    ON_FOCUS_LOST
+}
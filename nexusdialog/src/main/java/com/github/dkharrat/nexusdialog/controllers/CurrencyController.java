@@ -1,19 +1,43 @@
 package com.github.dkharrat.nexusdialog.controllers;
 
 import android.content.Context;
-import android.view.LayoutInflater;
 import android.view.View;
 
 import androidx.annotation.Nullable;
 
+import com.github.dkharrat.nexusdialog.FieldKey;
+import com.github.dkharrat.nexusdialog.FormModel;
 import com.github.dkharrat.nexusdialog.R;
+import com.github.dkharrat.nexusdialog.SchemaFormModel;
+import com.github.dkharrat.nexusdialog.currency.CurrencyFormatter;
 import com.github.dkharrat.nexusdialog.libs.CurrencyEditText;
 import com.github.dkharrat.nexusdialog.libs.TextUpdatedInterface;
 
-class CurrencyController extends LabeledFieldController {
+import java.util.Currency;
+import java.util.Locale;
+
+/**
+ * Represents a field that allows entering an amount of money.
+ * <p/>
+ * The amount is stored in the model as a <code>Long</code> number of minor units, such as cents, so that amounts can
+ * be added up exactly without parsing text. With a {@link SchemaFormModel}, declaring the field with
+ * {@link com.github.dkharrat.nexusdialog.FormSchema.Builder#addLong(String)} stores the amount without boxing it.
+ * Formatting only happens for display. Formatted <code>String</code> values stored by previous versions are still read.
+ * Clearing the field sets its value to null.
+ * <p/>
+ * Fields created with an ISO 4217 currency code also store the code, as a <code>String</code>, in the companion field
+ * named by {@link #getCurrencyCodeField(String)}, so that a saved model can be interpreted without the form. Both
+ * values are set in a single batch update. With a {@link SchemaFormModel}, the companion field must be declared with
+ * {@link com.github.dkharrat.nexusdialog.FormSchema.Builder#add(String, Class)}.
+ */
+public class CurrencyController extends LabeledFieldController {
+    private static final String CURRENCY_CODE_FIELD_SUFFIX = "_currency";
 
     @Nullable
     private final String currency;
+    @Nullable
+    private final String currencyCode;
+    private final int fractionDigits;
     private final String placeholder;
 
     public CurrencyController(
@@ -29,14 +53,133 @@ class CurrencyController extends LabeledFieldController {
         super(context, identifier, labelText, isRequired, enabled);
         this.placeholder = placeholder;
         this.currency = currency;
+        this.currencyCode = null;
+        this.fractionDigits = 2;
+    }
+
+    /**
+     * Creates a currency field for the specified ISO 4217 currency. The symbol and the number of fraction digits, such
+     * as 0 for JPY or 3 for KWD, are derived from the currency.
+     *
+     * @param context       the Android context
+     * @param identifier    the field identifier
+     * @param labelText     the label to display
+     * @param placeholder   the hint displayed when no amount is entered
+     * @param currencyCode  the ISO 4217 code of the currency, such as "EUR"
+     * @param isRequired    indicates if an amount must be entered
+     * @param enabled       indicates if the field can be edited
+     * @param locale        the locale used to display the currency symbol
+     */
+    public CurrencyController(
+            Context context,
+            String identifier,
+            String labelText,
+            String placeholder,
+            String currencyCode,
+            boolean isRequired,
+            boolean enabled,
+            Locale locale
+    ) {
+        super(context, identifier, labelText, isRequired, enabled);
+        Currency currencyInstance = Currency.getInstance(currencyCode);
+        this.placeholder = placeholder;
+        this.currency = currencyInstance.getSymbol(locale);
+        this.currencyCode = currencyCode;
+        // pseudo-currencies such as XXX have no fraction digits
+        this.fractionDigits = Math.max(currencyInstance.getDefaultFractionDigits(), 0);
+    }
+
+    /**
+     * Returns the ISO 4217 code of the currency of this field, which is also stored in the model along with the amount.
+     *
+     * @return the currency code, or null if this field was created with a currency symbol only
+     */
+    @Nullable
+    public String getCurrencyCode() {
+        return currencyCode;
+    }
+
+    /**
+     * Returns the name of the companion field storing the currency code of the specified currency field, which is the
+     * identifier of the field followed by <code>_currency</code>.
+     *
+     * @param fieldIdentifier   the identifier of the currency field
+     * @return                  the name of the field storing its currency code
+     */
+    public static String getCurrencyCodeField(String fieldIdentifier) {
+        return fieldIdentifier + CURRENCY_CODE_FIELD_SUFFIX;
+    }
+
+    /**
+     * Returns the amount stored in the model for this field.
+     *
+     * @return the amount in minor units, such as cents, or {@link CurrencyFormatter#NO_AMOUNT} if no amount is set
+     */
+    public long getMinorUnits() {
+        FormModel model = getModel();
+        if (model instanceof SchemaFormModel) {
+            FieldKey<?> key = ((SchemaFormModel) model).getSchema().getKey(getFieldIdentifier());
+            if (key instanceof FieldKey.LongKey) {
+                SchemaFormModel schemaModel = (SchemaFormModel) model;
+                return schemaModel.isSet(key) ? schemaModel.getLong((FieldKey.LongKey) key) : CurrencyFormatter.NO_AMOUNT;
+            }
+        }
+        return toMinorUnits(model.getValue(getFieldIdentifier()));
+    }
+
+    private void setMinorUnits(long minorUnits) {
+        FormModel model = getModel();
+        if (currencyCode == null) {
+            storeMinorUnits(model, minorUnits);
+            return;
+        }
+
+        // listeners see the amount and its currency change together
+        model.beginUpdate();
+        try {
+            storeMinorUnits(model, minorUnits);
+            model.setValue(getCurrencyCodeField(getFieldIdentifier()),
+                    minorUnits == CurrencyFormatter.NO_AMOUNT ? null : currencyCode);
+        } finally {
+            model.endUpdate();
+        }
+    }
+
+    private void storeMinorUnits(FormModel model, long minorUnits) {
+        if (minorUnits == CurrencyFormatter.NO_AMOUNT) {
+            // null unsets the field, including primitive fields of a schema model
+            model.setValue(getFieldIdentifier(), null);
+            return;
+        }
+        if (model instanceof SchemaFormModel) {
+            FieldKey<?> key = ((SchemaFormModel) model).getSchema().getKey(getFieldIdentifier());
+            if (key instanceof FieldKey.LongKey) {
+                ((SchemaFormModel) model).setLong((FieldKey.LongKey) key, minorUnits);
+                return;
+            }
+        }
+        model.setValue(getFieldIdentifier(), minorUnits);
+    }
+
+    private long toMinorUnits(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else if (value instanceof CharSequence) {
+            // formatted amount stored by previous versions
+            return getFormatter().parse((CharSequence) value);
+        }
+        return CurrencyFormatter.NO_AMOUNT;
+    }
+
+    private CurrencyFormatter getFormatter() {
+        return CurrencyFormatter.getInstance(Locale.getDefault(), currency != null ? currency : "", fractionDigits, ".", false, false);
     }
 
     @Override
     protected View createFieldView() {
-        LayoutInflater inflater = (LayoutInflater) getContext().getSystemService(Context.LAYOUT_INFLATER_SERVICE);
-        View view = inflater.inflate(R.layout.form_currency, null);
+        View view = inflate(R.layout.form_currency);
 
-        CurrencyEditText currencyEditText = view.findViewById(R.id.etInput);
+        final CurrencyEditText currencyEditText = view.findViewById(R.id.etInput);
         currencyEditText.setEnabled(isEnabled());
 
         if (currency != null) {
@@ -45,17 +188,16 @@ class CurrencyController extends LabeledFieldController {
 
         currencyEditText.setDelimiter(false);
         currencyEditText.setSpacing(false);
-        currencyEditText.setDecimals(true);
+        currencyEditText.setFractionDigits(fractionDigits);
         currencyEditText.setSeparator(".");
         currencyEditText.setHint(placeholder);
 
         currencyEditText.setListener(new TextUpdatedInterface() {
             @Override
             public void onNewText(String text) {
-                String withoutCurrency = text.replaceAll(currency, "");
-                getModel().setValue(getFieldIdentifier(), withoutCurrency);
-                // move cursor to end
-                currencyEditText.setSelection(currencyEditText.getText().length());
+                long minorUnits = currencyEditText.getMinorUnits();
+                setRenderedValue(minorUnits == CurrencyFormatter.NO_AMOUNT ? null : minorUnits);
+                setMinorUnits(minorUnits);
             }
         });
 
@@ -70,23 +212,12 @@ class CurrencyController extends LabeledFieldController {
     }
 
     private void updateUI(CurrencyEditText currencyEditText) {
-        String currentText = currencyEditText.getText().toString();
-
-        String value = (String) getModel().getValue(getFieldIdentifier());
-        if (value == null) {
-            currencyEditText.setText("");
+        Object value = getModel().getValue(getFieldIdentifier());
+        if (!updateRenderedValue(value)) {
             return;
         }
 
-        if (currency != null) {
-            if (!currentText.startsWith(currency)) {
-                currencyEditText.setText(String.format("%s%s", currency, value));
-            } else {
-                currencyEditText.setText(String.format("%s%s", currency, value));
-            }
-        } else {
-            currencyEditText.setText(value);
-        }
+        currencyEditText.setMinorUnits(toMinorUnits(value));
     }
 
     @Override
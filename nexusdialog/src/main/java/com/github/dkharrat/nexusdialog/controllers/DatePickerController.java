@@ -39,14 +39,16 @@ public class DatePickerController extends LabeledFieldController {
 
     @Override
     protected View createFieldView() {
-        View row = ControllerBuilder.createBasicRow(getContext(), isEnabled());
+        View row = ControllerBuilder.createBasicRow(inflate(R.layout.basic_row), isEnabled());
         updateUI(row.findViewById(R.id.value));
         return row;
     }
 
     private void updateUI(TextView textView) {
         Date value = (Date) getModel().getValue(getFieldIdentifier());
-        textView.setText(value != null ? displayFormat.format(value) : "");
+        if (updateRenderedValue(value)) {
+            textView.setText(value != null ? displayFormat.format(value) : "");
+        }
     }
 
     @Override
@@ -1,6 +1,8 @@
 package com.github.dkharrat.nexusdialog.controllers;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.Editable;
 import android.text.InputType;
 import android.text.TextWatcher;
@@ -11,10 +13,29 @@ import android.widget.EditText;
  * Represents a field that allows free-form text.
  */
 public class EditTextController extends LabeledFieldController {
+    /**
+     * The default delay after the last change before input is committed with {@link CommitPolicy#DEBOUNCED}.
+     */
+    public static final long DEFAULT_COMMIT_DELAY_MILLIS = 300;
+
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
     private final int editTextId = View.generateViewId();
 
     private int inputType;
     private final String placeholder;
+    private CommitPolicy commitPolicy = CommitPolicy.IMMEDIATE;
+    private long commitDelayMillis = DEFAULT_COMMIT_DELAY_MILLIS;
+    private boolean hasPendingInput;
+    private boolean refreshing;
+    private boolean formatting;
+
+    private final Runnable commitRunnable = new Runnable() {
+        @Override
+        public void run() {
+            commitPendingInput();
+        }
+    };
 
     public EditTextController(
             Context context,
@@ -86,6 +107,67 @@ public class EditTextController extends LabeledFieldController {
         setInputTypeMask(InputType.TYPE_TEXT_VARIATION_PASSWORD, isSecureEntry);
     }
 
+    /**
+     * Returns when the input of this text field is written to the model.
+     *
+     * @return the commit policy of this text field
+     */
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    /**
+     * Sets when the input of this text field is written to the model. Default is {@link CommitPolicy#IMMEDIATE}. With
+     * the other policies, model listeners are not notified of every keystroke. Pending input is always committed
+     * before the field is validated, and can be committed explicitly with {@link #commitPendingInput()}.
+     *
+     * @param commitPolicy the commit policy to use
+     */
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = commitPolicy;
+        if (commitPolicy == CommitPolicy.IMMEDIATE) {
+            commitPendingInput();
+        }
+    }
+
+    /**
+     * Returns the delay after the last change before input is committed with {@link CommitPolicy#DEBOUNCED}.
+     *
+     * @return the commit delay, in milliseconds
+     */
+    public long getCommitDelay() {
+        return commitDelayMillis;
+    }
+
+    /**
+     * Sets the delay after the last change before input is committed with {@link CommitPolicy#DEBOUNCED}. Default is
+     * {@link #DEFAULT_COMMIT_DELAY_MILLIS}.
+     *
+     * @param commitDelayMillis the commit delay, in milliseconds
+     */
+    public void setCommitDelay(long commitDelayMillis) {
+        this.commitDelayMillis = commitDelayMillis;
+    }
+
+    @Override
+    public void commitPendingInput() {
+        MAIN_HANDLER.removeCallbacks(commitRunnable);
+        if (!hasPendingInput || !isViewCreated()) {
+            return;
+        }
+
+        hasPendingInput = false;
+        Object value = getInputValue(getEditText().getText());
+        setRenderedValue(value);
+        getModel().setValue(getFieldIdentifier(), value);
+    }
+
+    @Override
+    protected void onViewReleased() {
+        commitPendingInput();
+        super.onViewReleased();
+    }
+
     @Override
     protected View createFieldView() {
         final EditText editText = new EditText(getContext());
@@ -108,8 +190,37 @@ public class EditTextController extends LabeledFieldController {
 
             @Override
             public void afterTextChanged(Editable editable) {
-                getModel().setValue(getFieldIdentifier(), editText.getText().toString());
-                editText.setSelection(editText.getText().length());
+                if (refreshing || formatting) {
+                    return;
+                }
+
+                formatting = true;
+                try {
+                    formatInput(editable);
+                } finally {
+                    formatting = false;
+                }
+
+                hasPendingInput = true;
+                switch (commitPolicy) {
+                    case IMMEDIATE:
+                        commitPendingInput();
+                        break;
+                    case DEBOUNCED:
+                        MAIN_HANDLER.removeCallbacks(commitRunnable);
+                        MAIN_HANDLER.postDelayed(commitRunnable, commitDelayMillis);
+                        break;
+                    case ON_FOCUS_LOST:
+                        break;
+                }
+            }
+        });
+        editText.setOnFocusChangeListener(new View.OnFocusChangeListener() {
+            @Override
+            public void onFocusChange(View view, boolean hasFocus) {
+                if (!hasFocus) {
+                    commitPendingInput();
+                }
             }
         });
 
@@ -126,7 +237,51 @@ public class EditTextController extends LabeledFieldController {
 
     private void refresh(EditText editText) {
         Object value = getModel().getValue(getFieldIdentifier());
-        editText.setText(value != null ? value.toString() : "");
+        if (!updateRenderedValue(value)) {
+            return;
+        }
+
+        // the model value replaces input that was not committed yet
+        hasPendingInput = false;
+        MAIN_HANDLER.removeCallbacks(commitRunnable);
+
+        refreshing = true;
+        try {
+            editText.setText(value != null ? getDisplayText(value) : "");
+            editText.setSelection(editText.getText().length());
+        } finally {
+            refreshing = false;
+        }
+    }
+
+    /**
+     * Formats the input as the user types. It is called after each change of the text, before the input is
+     * committed, and changes made to the editable do not call it again. The default implementation does nothing.
+     *
+     * @param editable the text of the field
+     */
+    protected void formatInput(Editable editable) {
+    }
+
+    /**
+     * Returns the value to write to the model for the specified input. The default implementation returns the text.
+     *
+     * @param text the text of the field
+     * @return the value to write to the model
+     */
+    protected Object getInputValue(CharSequence text) {
+        return text.toString();
+    }
+
+    /**
+     * Returns the text to display for the specified model value. The returned text is copied into the field, so
+     * implementations may reuse a buffer. The default implementation returns the string representation of the value.
+     *
+     * @param value the value of the field in the model, which is not null
+     * @return the text to display
+     */
+    protected CharSequence getDisplayText(Object value) {
+        return value.toString();
     }
 
     @Override
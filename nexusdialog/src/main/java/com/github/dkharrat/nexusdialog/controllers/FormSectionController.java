@@ -2,7 +2,6 @@ package com.github.dkharrat.nexusdialog.controllers;
 
 import android.content.Context;
 import android.text.TextUtils;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.TextView;
 
@@ -23,9 +22,34 @@ import java.util.UUID;
  */
 public class FormSectionController extends FormElementController {
 
+    /**
+     * Listener that is notified when elements are added to or removed from a section.
+     */
+    public interface OnElementsChangedListener {
+        /**
+         * Called after an element has been added to the section.
+         *
+         * @param section   the section the element was added to
+         * @param element   the added element
+         */
+        void onElementAdded(FormSectionController section, FormElementController element);
+
+        /**
+         * Called after an element has been removed from the section.
+         *
+         * @param section   the section the element was removed from
+         * @param element   the removed element
+         */
+        void onElementRemoved(FormSectionController section, FormElementController element);
+    }
+
+    private static final OnElementsChangedListener[] NO_LISTENERS = new OnElementsChangedListener[0];
+
     private final String title;
     private final Map<String, FormElementController> elements = new HashMap<String, FormElementController>();
     private final List<FormElementController> orderedElements = new ArrayList<FormElementController>();
+    // replaced on registration, so that notifying never copies it
+    private OnElementsChangedListener[] elementsChangedListeners = NO_LISTENERS;
 
     public FormSectionController(Context context, String identifier, String title) {
         super(context, identifier);
@@ -58,6 +82,37 @@ public class FormSectionController extends FormElementController {
         return title;
     }
 
+    /**
+     * Adds a listener to notify when elements are added to or removed from this section. A {@link
+     * com.github.dkharrat.nexusdialog.FormController} registers a listener on each of its sections to keep its element
+     * lookups up to date, so other listeners are notified alongside it.
+     *
+     * @param listener  the listener to notify
+     */
+    public void addOnElementsChangedListener(OnElementsChangedListener listener) {
+        OnElementsChangedListener[] listeners = new OnElementsChangedListener[elementsChangedListeners.length + 1];
+        System.arraycopy(elementsChangedListeners, 0, listeners, 0, elementsChangedListeners.length);
+        listeners[elementsChangedListeners.length] = listener;
+        elementsChangedListeners = listeners;
+    }
+
+    /**
+     * Removes a listener added by {@link #addOnElementsChangedListener(OnElementsChangedListener)}.
+     *
+     * @param listener  the listener to remove
+     */
+    public void removeOnElementsChangedListener(OnElementsChangedListener listener) {
+        for (int i = 0; i < elementsChangedListeners.length; i++) {
+            if (elementsChangedListeners[i] == listener) {
+                OnElementsChangedListener[] listeners = new OnElementsChangedListener[elementsChangedListeners.length - 1];
+                System.arraycopy(elementsChangedListeners, 0, listeners, 0, i);
+                System.arraycopy(elementsChangedListeners, i + 1, listeners, i, listeners.length - i);
+                elementsChangedListeners = listeners.length == 0 ? NO_LISTENERS : listeners;
+                return;
+            }
+        }
+    }
+
     /**
      * Adds a form element to this section. Note that sub-sections are not supported.
      *
@@ -75,6 +130,9 @@ public class FormSectionController extends FormElementController {
         } else {
             elements.put(element.getFieldIdentifier(), element);
             orderedElements.add(position, element);
+            for (OnElementsChangedListener listener : elementsChangedListeners) {
+                listener.onElementAdded(this, element);
+            }
             return element;
         }
     }
@@ -109,12 +167,27 @@ public class FormSectionController extends FormElementController {
      */
     public FormElementController removeElement(String name) {
         FormElementController element = elements.remove(name);
-        orderedElements.remove(element);
+        if (element != null) {
+            orderedElements.remove(element);
+            for (OnElementsChangedListener listener : elementsChangedListeners) {
+                listener.onElementRemoved(this, element);
+            }
+        }
         return element;
     }
 
+    /**
+     * Removes all the form elements from this section.
+     */
     public void removeAllElements() {
+        List<FormElementController> removed = new ArrayList<FormElementController>(orderedElements);
+        elements.clear();
         orderedElements.clear();
+        for (FormElementController element : removed) {
+            for (OnElementsChangedListener listener : elementsChangedListeners) {
+                listener.onElementRemoved(this, element);
+            }
+        }
     }
 
     /**
@@ -167,11 +240,9 @@ public class FormSectionController extends FormElementController {
 
     @Override
     protected View createView() {
-        LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-
         View view;
         if (!TextUtils.isEmpty(getTitle())) {
-            view = layoutInflater.inflate(R.layout.form_section, null);
+            view = inflate(R.layout.form_section);
             view.setOnClickListener(null);
             view.setOnLongClickListener(null);
             view.setLongClickable(false);
@@ -179,7 +250,7 @@ public class FormSectionController extends FormElementController {
             final TextView sectionView = view.findViewById(R.id.list_item_section_text);
             sectionView.setText(title);
         } else {
-            view = layoutInflater.inflate(R.layout.separator, null);
+            view = inflate(R.layout.separator);
         }
 
         return view;
@@ -188,7 +259,9 @@ public class FormSectionController extends FormElementController {
     @Override
     public void refresh() {
         for (FormElementController element : orderedElements) {
-            element.refresh();
+            if (element.isViewCreated()) {
+                element.refresh();
+            }
         }
     }
 
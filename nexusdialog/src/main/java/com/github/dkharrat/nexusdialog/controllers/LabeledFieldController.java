@@ -2,7 +2,6 @@ package com.github.dkharrat.nexusdialog.controllers;
 
 import android.content.Context;
 import android.text.Html;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.FrameLayout;
 import android.widget.LinearLayout;
@@ -10,25 +9,60 @@ import android.widget.TextView;
 
 import com.github.dkharrat.nexusdialog.FormElementController;
 import com.github.dkharrat.nexusdialog.R;
+import com.github.dkharrat.nexusdialog.validations.CostAwareValidator;
 import com.github.dkharrat.nexusdialog.validations.InputValidator;
+import com.github.dkharrat.nexusdialog.validations.PureInputValidator;
 import com.github.dkharrat.nexusdialog.validations.RequiredFieldValidator;
 import com.github.dkharrat.nexusdialog.validations.ValidationError;
+import com.github.dkharrat.nexusdialog.validations.ValidationSink;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 /**
  * An abstract class that represents a generic form field with an associated label.
+ * <p/>
+ * The validators of a field run in a predictable order: the required field check first, then the other validators in
+ * ascending order of {@link CostAwareValidator#getCost() cost}, and in the order they were added for equal costs. When
+ * the required field check fails, no other validator runs.
+ * <p/>
+ * The results of {@link PureInputValidator}s are remembered for the most recent values of the field, so they only
+ * run for values that were not validated recently.
  */
 public abstract class LabeledFieldController extends FormElementController {
+    /**
+     * The default number of values for which the results of pure validators are remembered.
+     */
+    public static final int DEFAULT_VALIDATION_MEMO_SIZE = 4;
+
+    // all instances of RequiredFieldValidator are equal, so this one finds the validator of any field
     private static final RequiredFieldValidator REQUIRED_FIELD_VALIDATOR = new RequiredFieldValidator();
+    private static final InputValidator[] NO_VALIDATORS = new InputValidator[0];
+    private static final Comparator<InputValidator> VALIDATOR_ORDER = new Comparator<InputValidator>() {
+        @Override
+        public int compare(InputValidator validator1, InputValidator validator2) {
+            return Long.compare(getOrder(validator1), getOrder(validator2));
+        }
+    };
 
     private final String labelText;
     private View fieldView;
     private TextView errorView;
-    private Set<InputValidator> validators;
+    private String errorMessage;
+    // the validators in the order they run, as a set and as an array to iterate without allocating
+    private Set<InputValidator> validators = new LinkedHashSet<>();
+    private InputValidator[] validatorChain = NO_VALIDATORS;
+    // the memo of each validator of the chain, or null for validators that are not pure
+    private ValidationMemo[] validationMemos = new ValidationMemo[0];
+    private int validationMemoSize = DEFAULT_VALIDATION_MEMO_SIZE;
+    private boolean failFast;
+    private boolean liveValidation;
+    private long liveValidationIntervalMillis;
     private boolean enabled;
 
     public LabeledFieldController(
@@ -39,15 +73,20 @@ public abstract class LabeledFieldController extends FormElementController {
             boolean enabled
     ) {
         super(context, identifier);
-        this.validators = new HashSet<>();
         this.labelText = labelText;
         this.enabled = enabled;
 
         if (isRequired && enabled) {
-            validators.add(REQUIRED_FIELD_VALIDATOR);
-        } else {
-            validators.remove(REQUIRED_FIELD_VALIDATOR);
+            // each field has its own instance, so that the error it keeps is released along with the field
+            addValidator(new RequiredFieldValidator());
+        }
+    }
+
+    private static long getOrder(InputValidator validator) {
+        if (validator instanceof RequiredFieldValidator) {
+            return Long.MIN_VALUE;
         }
+        return validator instanceof CostAwareValidator ? ((CostAwareValidator) validator).getCost() : CostAwareValidator.DEFAULT_COST;
     }
 
     public void setEnabled(boolean enabled) {
@@ -63,12 +102,123 @@ public abstract class LabeledFieldController extends FormElementController {
     }
 
     /**
-     * Changes the validators for the given field.
+     * Changes the validators for the given field. Validators of equal cost run in the iteration order of the
+     * specified set, so a <code>LinkedHashSet</code> should be used to control their order.
      *
      * @param newValidators THe new validators to use.
      */
     public void setValidators(Set<InputValidator> newValidators) {
-        validators = newValidators;
+        updateValidators(newValidators.toArray(new InputValidator[newValidators.size()]));
+    }
+
+    /**
+     * Adds a validator to this field. It runs after the validators of lower or equal cost that were added before it.
+     *
+     * @param validator the validator to add
+     */
+    public void addValidator(InputValidator validator) {
+        if (validators.contains(validator)) {
+            return;
+        }
+
+        InputValidator[] newValidators = Arrays.copyOf(validatorChain, validatorChain.length + 1);
+        newValidators[validatorChain.length] = validator;
+        updateValidators(newValidators);
+    }
+
+    /**
+     * Removes a validator from this field.
+     *
+     * @param validator the validator to remove
+     */
+    public void removeValidator(InputValidator validator) {
+        if (!validators.contains(validator)) {
+            return;
+        }
+
+        List<InputValidator> newValidators = new ArrayList<>(validators);
+        newValidators.remove(validator);
+        updateValidators(newValidators.toArray(new InputValidator[newValidators.size()]));
+    }
+
+    private void updateValidators(InputValidator[] newValidators) {
+        // the sort is stable, so validators of equal cost keep the order they were added in
+        Arrays.sort(newValidators, VALIDATOR_ORDER);
+        validatorChain = newValidators;
+        validators = new LinkedHashSet<>(Arrays.asList(newValidators));
+        createValidationMemos();
+        onValidatorsChanged();
+    }
+
+    private void createValidationMemos() {
+        validationMemos = new ValidationMemo[validatorChain.length];
+        if (validationMemoSize > 0) {
+            for (int i = 0; i < validatorChain.length; i++) {
+                if (validatorChain[i] instanceof PureInputValidator) {
+                    validationMemos[i] = new ValidationMemo(validationMemoSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values for which the results of pure validators are remembered.
+     *
+     * @return the number of values for which validation results are remembered
+     */
+    public int getValidationMemoSize() {
+        return validationMemoSize;
+    }
+
+    /**
+     * Sets the number of values for which the results of {@link PureInputValidator}s are remembered. When the field
+     * is validated with a value that was not validated recently, the results of the least recently validated value are
+     * forgotten. Default is {@link #DEFAULT_VALIDATION_MEMO_SIZE}.
+     *
+     * @param size the number of values for which validation results are remembered, or 0 to disable memoization
+     */
+    public void setValidationMemoSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative");
+        }
+        validationMemoSize = size;
+        createValidationMemos();
+    }
+
+    private ValidationError runValidator(int index, Object value) {
+        ValidationMemo memo = validationMemos[index];
+        if (memo != null) {
+            return memo.validate(validatorChain[index], value, getFieldIdentifier(), getLabel());
+        }
+        return validatorChain[index].validate(value, getFieldIdentifier(), getLabel());
+    }
+
+    /**
+     * Runs one of the validators of this field on the specified value, reusing the remembered result if the validator
+     * is a {@link PureInputValidator}. This is meant for validations that run the chain of the field themselves, such
+     * as asynchronous form validation, and must be called on the main thread.
+     *
+     * @param validator the validator of this field to run
+     * @param value     the value to validate
+     * @return the validation error, or null if the value is valid
+     */
+    public ValidationError validateWith(InputValidator validator, Object value) {
+        for (int i = 0; i < validatorChain.length; i++) {
+            if (validatorChain[i] == validator) {
+                return runValidator(i, value);
+            }
+        }
+        // the validator was removed from this field since the chain was read
+        return validator.validate(value, getFieldIdentifier(), getLabel());
+    }
+
+    /**
+     * Returns the validators of this field, in the order they run.
+     *
+     * @return an unmodifiable set of the validators of this field
+     */
+    public Set<InputValidator> getValidators() {
+        return Collections.unmodifiableSet(validators);
     }
 
     /**
@@ -80,32 +230,170 @@ public abstract class LabeledFieldController extends FormElementController {
         return validators.contains(REQUIRED_FIELD_VALIDATOR);
     }
 
+    /**
+     * Indicates whether validation of this field stops at the first error.
+     *
+     * @return true if validation stops at the first error, otherwise false
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Specifies whether validation of this field stops at the first error, so that validators that would run after
+     * a failed one are skipped. Default is false, in which case all the validators run, unless the required field
+     * check fails.
+     *
+     * @param failFast if true, validation stops at the first error
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+        invalidateValidationErrors();
+    }
+
+    /**
+     * Indicates whether the validation of this field should stop after the specified error.
+     *
+     * @param validator the validator that returned the error
+     * @return true if no other validator should run, otherwise false
+     */
+    public boolean isTerminalError(InputValidator validator) {
+        return failFast || validator instanceof RequiredFieldValidator;
+    }
+
+    /**
+     * Indicates whether this field is validated as its value changes.
+     *
+     * @return true if this field is validated as its value changes, otherwise false
+     */
+    public boolean isLiveValidation() {
+        return liveValidation;
+    }
+
+    /**
+     * Specifies whether this field is validated as its value changes, for instance while the user types. Changes are
+     * coalesced, so that the field is validated at most once per frame, or at most once per
+     * {@link #setLiveValidationIntervalMillis(long) interval}. The errors are shown for this field only, which requires
+     * the form's error display to be a {@link com.github.dkharrat.nexusdialog.validations.FieldValidationErrorDisplay}.
+     * Default is false.
+     *
+     * @param liveValidation if true, the field is validated as its value changes
+     */
+    public void setLiveValidation(boolean liveValidation) {
+        this.liveValidation = liveValidation;
+    }
+
+    /**
+     * Returns the minimum time between two live validations of this field.
+     *
+     * @return the minimum time between two live validations, in milliseconds
+     */
+    public long getLiveValidationIntervalMillis() {
+        return liveValidationIntervalMillis;
+    }
+
+    /**
+     * Sets the minimum time between two live validations of this field. Use a longer interval for fields with
+     * expensive validators. Default is 0, in which case the field is validated at most once per frame.
+     *
+     * @param intervalMillis the minimum time between two live validations, in milliseconds
+     */
+    public void setLiveValidationIntervalMillis(long intervalMillis) {
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("intervalMillis must not be negative");
+        }
+        this.liveValidationIntervalMillis = intervalMillis;
+    }
+
     /**
      * Indicates whether the input of this field has any validation errors.
      *
      * @return true if there are some validation errors, otherwise false
      */
     public boolean isValidInput() {
-        return validateInput().isEmpty();
+        return validateInto(ValidationSink.DISCARD) == 0;
+    }
+
+    /**
+     * Writes input that the user entered but that has not been written to the model yet, for fields that do not
+     * commit every change right away. It is called before the input of the field is validated. The default
+     * implementation does nothing.
+     */
+    public void commitPendingInput() {
     }
 
     /**
      * Runs a validation on the user input and returns all the validation errors of this field.
      * Previous error messages are removed when calling {@code validateInput()}.
      *
-     * @return a list containing all the validation errors
+     * @return a list containing all the validation errors, which is an immutable empty list if the input is valid
      */
     public List<ValidationError> validateInput() {
-        List<ValidationError> errors = new ArrayList<>();
-        Object value = getModel().getValue(getFieldIdentifier());
+        commitPendingInput();
+        return validateValue(getModel().getValue(getFieldIdentifier()));
+    }
+
+    /**
+     * Runs the validators of this field on the specified value and returns all the validation errors. Unlike
+     * {@link #validateInput()}, this method does not access the model, so it can be called from any thread as long as
+     * the validators of this field are thread-safe.
+     *
+     * @param value the value to validate
+     * @return a list containing all the validation errors
+     */
+    public List<ValidationError> validateValue(Object value) {
+        // most values are valid, so the list is only allocated for the first error
+        List<ValidationError> errors = null;
         ValidationError error;
-        for (InputValidator validator : validators) {
-            error = validator.validate(value, getFieldIdentifier(), getLabel());
+        for (int i = 0; i < validatorChain.length; i++) {
+            error = runValidator(i, value);
             if (error != null) {
+                if (errors == null) {
+                    errors = new ArrayList<>(validatorChain.length);
+                }
                 errors.add(error);
+                if (isTerminalError(validatorChain[i])) {
+                    break;
+                }
             }
         }
-        return errors;
+        return errors != null ? errors : Collections.<ValidationError>emptyList();
+    }
+
+    /**
+     * Runs a validation on the user input and passes the validation errors of this field to the specified sink. This
+     * method does not allocate anything when the input is valid.
+     *
+     * @param sink  the sink that receives the validation errors
+     * @return the number of validation errors
+     */
+    public int validateInto(ValidationSink sink) {
+        commitPendingInput();
+        return validateValueInto(getModel().getValue(getFieldIdentifier()), sink);
+    }
+
+    /**
+     * Runs the validators of this field on the specified value and passes the validation errors to the specified sink.
+     *
+     * @param value the value to validate
+     * @param sink  the sink that receives the validation errors
+     * @return the number of validation errors
+     * @see #validateValue(Object)
+     */
+    public int validateValueInto(Object value, ValidationSink sink) {
+        int count = 0;
+        ValidationError error;
+        for (int i = 0; i < validatorChain.length; i++) {
+            error = runValidator(i, value);
+            if (error != null) {
+                sink.addError(error);
+                count++;
+                if (isTerminalError(validatorChain[i])) {
+                    break;
+                }
+            }
+        }
+        return count;
     }
 
     /**
@@ -115,6 +403,7 @@ public abstract class LabeledFieldController extends FormElementController {
      */
     public View getFieldView() {
         if (fieldView == null) {
+            invalidateRenderedValue();
             fieldView = createFieldView();
         }
         return fieldView;
@@ -131,10 +420,10 @@ public abstract class LabeledFieldController extends FormElementController {
 
     @Override
     protected View createView() {
-        LayoutInflater inflater = (LayoutInflater) getContext().getSystemService(Context.LAYOUT_INFLATER_SERVICE);
-        View view = inflater.inflate(R.layout.form_labeled_element, null);
+        View view = inflate(R.layout.form_labeled_element);
         LinearLayout root = view.findViewById(R.id.root);
         errorView = view.findViewById(R.id.field_error);
+        showError();
 
         TextView label = view.findViewById(R.id.field_label);
         if (labelText == null) {
@@ -163,12 +452,25 @@ public abstract class LabeledFieldController extends FormElementController {
         return view;
     }
 
+    @Override
+    protected void onViewReleased() {
+        fieldView = null;
+        errorView = null;
+    }
+
     @Override
     public void setError(String message) {
-        if (message == null) {
+        errorMessage = message;
+        if (errorView != null) {
+            showError();
+        }
+    }
+
+    private void showError() {
+        if (errorMessage == null) {
             errorView.setVisibility(View.GONE);
         } else {
-            errorView.setText(message);
+            errorView.setText(errorMessage);
             errorView.setVisibility(View.VISIBLE);
         }
     }
@@ -0,0 +1,80 @@
+package com.github.dkharrat.nexusdialog.controllers;
+
+import android.content.Context;
+import android.text.Editable;
+import android.text.InputType;
+import android.text.Selection;
+
+import com.github.dkharrat.nexusdialog.libs.InputMask;
+import com.github.dkharrat.nexusdialog.text.TextEdit;
+import com.github.dkharrat.nexusdialog.utils.EditableUtils;
+
+/**
+ * Represents a field for structured numeric input, such as phone or card numbers, that is formatted with an
+ * {@link InputMask} as the user types. The model stores the digits entered, without the literals of the mask.
+ */
+public class MaskedEditTextController extends EditTextController {
+    private final InputMask mask;
+    // reused for each keystroke, since formatting happens on the main thread only
+    private final StringBuilder buffer = new StringBuilder();
+    private final TextEdit edit = new TextEdit();
+
+    /**
+     * Constructs a new instance of a masked text field.
+     *
+     * @param context       the Android context
+     * @param identifier    the field identifier
+     * @param labelText     the label to display
+     * @param placeholder   the hint displayed when no input is entered
+     * @param maskPattern   the mask pattern, such as <code>+1 (###) ###-####</code>, where <code>#</code> is a digit
+     * @param isRequired    indicates if input must be entered
+     * @param enabled       indicates if the field can be edited
+     */
+    public MaskedEditTextController(
+            Context context,
+            String identifier,
+            String labelText,
+            String placeholder,
+            String maskPattern,
+            boolean isRequired,
+            boolean enabled
+    ) {
+        super(context, identifier, labelText, placeholder, isRequired, InputType.TYPE_CLASS_PHONE, enabled);
+        this.mask = InputMask.compile(maskPattern);
+    }
+
+    /**
+     * Returns the mask of this field.
+     *
+     * @return the mask of this field
+     */
+    public InputMask getMask() {
+        return mask;
+    }
+
+    @Override
+    protected void formatInput(Editable editable) {
+        int selection = Selection.getSelectionEnd(editable);
+        int digitsBeforeCursor = mask.countDigits(editable, selection >= 0 ? selection : editable.length());
+
+        buffer.setLength(0);
+        mask.format(editable, buffer);
+        if (EditableUtils.applyMinimalEdit(editable, buffer, edit)) {
+            Selection.setSelection(editable, mask.positionAfterDigits(editable, digitsBeforeCursor));
+        }
+    }
+
+    @Override
+    protected Object getInputValue(CharSequence text) {
+        buffer.setLength(0);
+        mask.unformat(text, buffer);
+        return buffer.toString();
+    }
+
+    @Override
+    protected CharSequence getDisplayText(Object value) {
+        buffer.setLength(0);
+        mask.format(value.toString(), buffer);
+        return buffer;
+    }
+}
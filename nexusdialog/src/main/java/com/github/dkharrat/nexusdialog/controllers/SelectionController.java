@@ -86,6 +86,8 @@ public class SelectionController extends LabeledFieldController {
                     }
                 }
 
+                // the spinner already shows the selection, so the resulting refresh must not select it again
+                setRenderedValue(value);
                 getModel().setValue(getFieldIdentifier(), value);
             }
 
@@ -101,6 +103,10 @@ public class SelectionController extends LabeledFieldController {
 
     private void refresh(Spinner spinner) {
         Object value = getModel().getValue(getFieldIdentifier());
+        if (!updateRenderedValue(value)) {
+            return;
+        }
+
         int selectionIndex = items.size() - 1;    // index of last item shows the 'prompt'
 
         if (values != null) {
@@ -90,8 +90,10 @@ public class TimePickerController extends LabeledFieldController {
                     calendar.setTimeZone(timeZone);
                     calendar.set(Calendar.HOUR_OF_DAY, hourOfDay);
                     calendar.set(Calendar.MINUTE, minute);
-                    getModel().setValue(getFieldIdentifier(), calendar.getTime());
-                    editText.setText(displayFormat.format(calendar.getTime()));
+                    Date time = calendar.getTime();
+                    setRenderedValue(time);
+                    editText.setText(displayFormat.format(time));
+                    getModel().setValue(getFieldIdentifier(), time);
                 }
             }, calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE), is24HourView);
 
@@ -112,7 +114,9 @@ public class TimePickerController extends LabeledFieldController {
 
     private void refresh(EditText editText) {
         Date value = (Date) getModel().getValue(getFieldIdentifier());
-        editText.setText(value != null ? displayFormat.format(value) : "");
+        if (updateRenderedValue(value)) {
+            editText.setText(value != null ? displayFormat.format(value) : "");
+        }
     }
 
     @Override
@@ -0,0 +1,48 @@
+package com.github.dkharrat.nexusdialog.controllers;
+
+import com.github.dkharrat.nexusdialog.validations.InputValidator;
+import com.github.dkharrat.nexusdialog.validations.ValidationError;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the results of a {@link com.github.dkharrat.nexusdialog.validations.PureInputValidator} for the most
+ * recently validated values of a field, evicting the least recently used value once full. It is thread-safe, since
+ * fields can be validated off the main thread.
+ */
+class ValidationMemo {
+    // marks a value that is valid, as the map returns null for unknown values
+    private static final Object NO_ERROR = new Object();
+
+    private final LinkedHashMap<Object, Object> results;
+
+    ValidationMemo(final int maxSize) {
+        results = new LinkedHashMap<Object, Object>(maxSize + 1, 1f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of the validator for the specified value, running the validator if the result is unknown.
+     */
+    ValidationError validate(InputValidator validator, Object value, String fieldName, String fieldLabel) {
+        Object result;
+        synchronized (this) {
+            result = results.get(value);
+        }
+        if (result != null) {
+            return result != NO_ERROR ? (ValidationError) result : null;
+        }
+
+        // the validator runs outside the lock, as it is pure and may be slow
+        ValidationError error = validator.validate(value, fieldName, fieldLabel);
+        synchronized (this) {
+            results.put(value, error != null ? error : NO_ERROR);
+        }
+        return error;
+    }
+}
@@ -27,6 +27,10 @@ public class ValueController extends LabeledFieldController {
 
     private void refresh(TextView textView) {
         Object value = getModel().getValue(getFieldIdentifier());
+        if (!updateRenderedValue(value)) {
+            return;
+        }
+
         textView.setText(value != null ? value.toString() : "");
     }
 
@@ -2,26 +2,32 @@ package com.github.dkharrat.nexusdialog.libs;
 
 import android.content.Context;
 import android.text.Editable;
+import android.text.Selection;
 import android.text.TextWatcher;
 import android.util.AttributeSet;
 
 import androidx.annotation.Nullable;
 import androidx.appcompat.widget.AppCompatEditText;
 
-import java.text.NumberFormat;
-import java.util.Locale;
+import com.github.dkharrat.nexusdialog.currency.CurrencyFormatter;
+import com.github.dkharrat.nexusdialog.currency.CurrencyInput;
+import com.github.dkharrat.nexusdialog.text.TextField;
 
 public class CurrencyEditText extends AppCompatEditText {
 
-    private String current = "";
-    private CurrencyEditText editText = CurrencyEditText.this;
+    private final CurrencyInput input = new CurrencyInput();
+    // the text of this view, which the input applies its edits to
+    private final TextField field = new TextField() {
+        @Override
+        public void replace(int start, int end, CharSequence replacement, int replacementStart, int replacementEnd) {
+            getText().replace(start, end, replacement, replacementStart, replacementEnd);
+        }
 
-    //properties
-    private String Currency = "";
-    private String Separator = ",";
-    private Boolean Spacing = false;
-    private Boolean Delimiter = false;
-    private Boolean Decimals = true;
+        @Override
+        public void setSelection(int position) {
+            Selection.setSelection(getText(), position);
+        }
+    };
 
     @Nullable
     private TextUpdatedInterface listener;
@@ -56,86 +62,77 @@ public class CurrencyEditText extends AppCompatEditText {
 
             @Override
             public void onTextChanged(CharSequence s, int i, int i1, int i2) {
-                if (!s.toString().equals(current)) {
-                    editText.removeTextChangedListener(this);
-
-                    String cleanString = s.toString().replaceAll("[$,.]", "").replaceAll(Currency, "").replaceAll("\\s+", "");
-
-                    if (cleanString.length() != 0) {
-                        try {
-
-                            String currencyFormat = "";
-                            if (Spacing) {
-                                if (Delimiter) {
-                                    currencyFormat = Currency + ". ";
-                                } else {
-                                    currencyFormat = Currency + " ";
-                                }
-                            } else {
-                                if (Delimiter) {
-                                    currencyFormat = Currency + ".";
-                                } else {
-                                    currencyFormat = Currency;
-                                }
-                            }
-
-                            double parsed;
-                            int parsedInt;
-                            String formatted;
-
-                            if (Decimals) {
-                                parsed = Double.parseDouble(cleanString);
-                                formatted = NumberFormat.getCurrencyInstance().format((parsed / 100)).replace(NumberFormat.getCurrencyInstance().getCurrency().getSymbol(), currencyFormat);
-                            } else {
-                                parsedInt = Integer.parseInt(cleanString);
-                                formatted = currencyFormat + NumberFormat.getNumberInstance(Locale.US).format(parsedInt);
-                            }
-
-                            current = formatted;
-
-                            //if decimals are turned off and Separator is set as anything other than commas..
-                            if (!Separator.equals(",") && !Decimals) {
-                                //..replace the commas with the new separator
-                                editText.setText(formatted.replaceAll(",", Separator));
-                            } else {
-                                //since no custom separators were set, proceed with comma separation
-                                editText.setText(formatted);
-                            }
-                            editText.setSelection(formatted.length());
-
-                            if (listener != null) {
-                                listener.onNewText(formatted);
-                            }
-                        } catch (NumberFormatException e) {
-
-                        }
-                    }
-
-                    editText.addTextChangedListener(this);
-                }
+
             }
 
             @Override
             public void afterTextChanged(Editable editable) {
-
+                if (input.onTextChanged(editable, Selection.getSelectionEnd(editable), field) && listener != null) {
+                    listener.onNewText(input.getText());
+                }
             }
         });
     }
 
+    /**
+     * Returns the amount entered, in minor units such as cents when decimals are used.
+     *
+     * @return the amount entered in minor units, or {@link CurrencyFormatter#NO_AMOUNT} if no amount was entered
+     */
+    public long getMinorUnits() {
+        return input.getAmount();
+    }
+
+    /**
+     * Displays the specified amount, without notifying the listener.
+     *
+     * @param amount the amount in minor units, or {@link CurrencyFormatter#NO_AMOUNT} to clear the field
+     */
+    public void setMinorUnits(long amount) {
+        input.setAmount(amount, getText(), field);
+    }
+
+    /**
+     * Returns the amount entered in major units, such as 12.34 for 1234 cents.
+     *
+     * @return the amount entered, or 0 if no amount was entered
+     */
+    public double getCleanDoubleValue() {
+        return input.getMajorUnits();
+    }
+
+    /**
+     * Returns the formatted amount without the currency symbol, such as "1,234.56".
+     *
+     * @return the formatted amount without the currency symbol, or an empty string if no amount was entered
+     */
+    public String getCleanValue() {
+        return input.getCleanValue();
+    }
+
     public void setDecimals(boolean value) {
-        this.Decimals = value;
+        input.setDecimals(value);
+    }
+
+    /**
+     * Sets the number of digits after the decimal separator, such as 0 for JPY, 2 for EUR or 3 for KWD. Default is 2.
+     *
+     * @param fractionDigits the number of fraction digits of the currency
+     */
+    public void setFractionDigits(int fractionDigits) {
+        input.setFractionDigits(fractionDigits);
     }
 
     public void setCurrency(String currencySymbol) {
-        this.Currency = currencySymbol;
+        input.setCurrencySymbol(currencySymbol);
     }
 
     public void setSpacing(boolean value) {
-        this.Spacing = value;
+        input.setSpacing(value);
     }
 
     public void setDelimiter(boolean value) {
-        this.Delimiter = value;
+        input.setDelimiter(value);
     }
 
     /**
@@ -146,6 +143,6 @@ public class CurrencyEditText extends AppCompatEditText {
      * @value is the custom symbol sent in place of the default comma
      */
     public void setSeparator(String value) {
-        this.Separator = value;
+        input.setSeparator(value);
     }
 }
@@ -0,0 +1,213 @@
+package com.github.dkharrat.nexusdialog.libs;
+
+import com.github.dkharrat.nexusdialog.text.TextDiff;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled input mask, such as <code>+1 (###) ###-####</code> for phone numbers or <code>#### #### #### ####</code>
+ * for card numbers. Each <code>#</code> is a placeholder for a digit, and every other character is a literal that is
+ * inserted as the user types. Digits in literals are only supported before the first placeholder.
+ * <p/>
+ * Masks are immutable and compiled once per pattern, so all the fields using the same pattern share one instance.
+ * Formatting and unformatting read the input once and append to a caller-provided builder without allocating.
+ */
+public final class InputMask {
+    /**
+     * The placeholder for a digit in mask patterns.
+     */
+    public static final char DIGIT = '#';
+
+    private static final ConcurrentHashMap<String, InputMask> MASKS = new ConcurrentHashMap<>();
+
+    private final String pattern;
+    // the literals before the first placeholder, which may contain digits
+    private final String prefix;
+    // the number of digits in the prefix
+    private final int prefixDigits;
+    // for each position of the pattern, whether it is a placeholder
+    private final boolean[] placeholders;
+    // the position in the pattern of each placeholder
+    private final int[] placeholderPositions;
+
+    private InputMask(String pattern) {
+        this.pattern = pattern;
+        this.placeholders = new boolean[pattern.length()];
+
+        int count = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == DIGIT) {
+                placeholders[i] = true;
+                count++;
+            }
+        }
+
+        this.placeholderPositions = new int[count];
+        for (int i = 0, slot = 0; i < pattern.length(); i++) {
+            if (placeholders[i]) {
+                placeholderPositions[slot++] = i;
+            }
+        }
+        this.prefix = pattern.substring(0, count > 0 ? placeholderPositions[0] : pattern.length());
+        this.prefixDigits = TextDiff.countDigits(prefix, 0, prefix.length());
+    }
+
+    /**
+     * Returns the compiled mask for the specified pattern.
+     *
+     * @param pattern the mask pattern, using {@link #DIGIT} as placeholder for digits
+     * @return the compiled mask
+     */
+    public static InputMask compile(String pattern) {
+        InputMask mask = MASKS.get(pattern);
+        if (mask == null) {
+            mask = new InputMask(pattern);
+            InputMask existing = MASKS.putIfAbsent(pattern, mask);
+            if (existing != null) {
+                mask = existing;
+            }
+        }
+        return mask;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the number of digits that the mask accepts.
+     *
+     * @return the number of placeholders of the mask
+     */
+    public int getDigitCount() {
+        return placeholderPositions.length;
+    }
+
+    /**
+     * Returns the position in the input where the digits entered by the user start, skipping the literal prefix of
+     * the mask. The prefix is matched leniently, so that text whose prefix was partially deleted or pasted without its
+     * literals, such as <code>+1 5</code> or <code>+15551234567</code> for <code>+1 (###) ###-####</code>, is not
+     * mistaken for user digits. Input without any literal of the prefix, such as raw digits read from the model, only
+     * has its prefix digits skipped if it holds more digits than the mask accepts.
+     */
+    private int getDigitsStart(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        int j = 0;
+        boolean literalMatched = false;
+        int prefixDigitsMatched = 0;
+        while (i < length && j < prefix.length()) {
+            char c = input.charAt(i);
+            char p = prefix.charAt(j);
+            if (c == p) {
+                if (isDigit(p)) {
+                    prefixDigitsMatched++;
+                } else {
+                    literalMatched = true;
+                }
+                i++;
+                j++;
+            } else if (!isDigit(p) || !isDigit(c)) {
+                // a literal or a digit of the prefix is missing from the input
+                j++;
+            } else {
+                break;
+            }
+        }
+
+        if (literalMatched) {
+            return i;
+        }
+        if (prefixDigitsMatched > 0 && prefixDigitsMatched == prefixDigits
+                && TextDiff.countDigits(input, 0, length) > placeholderPositions.length) {
+            return i;
+        }
+        return 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Formats the digits entered in the specified input, which may be raw digits or previously formatted text, and
+     * appends the result to the builder. Literals are inserted up to the last digit entered, and digits beyond the
+     * capacity of the mask are dropped.
+     *
+     * @param input the text to format
+     * @param out   the builder to append the formatted text to
+     * @return the number of digits formatted
+     */
+    public int format(CharSequence input, StringBuilder out) {
+        int position = 0;
+        int slot = 0;
+        for (int i = getDigitsStart(input); i < input.length() && slot < placeholderPositions.length; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                continue;
+            }
+
+            int placeholderPosition = placeholderPositions[slot++];
+            // literals are appended only once a digit follows them
+            out.append(pattern, position, placeholderPosition);
+            out.append(c);
+            position = placeholderPosition + 1;
+        }
+        return slot;
+    }
+
+    /**
+     * Appends the digits entered in the specified input to the builder, without the literals of the mask.
+     *
+     * @param input the text to unformat, which may be formatted text or raw digits
+     * @param out   the builder to append the digits to
+     * @return the number of digits appended
+     */
+    public int unformat(CharSequence input, StringBuilder out) {
+        int count = 0;
+        for (int i = getDigitsStart(input); i < input.length() && count < placeholderPositions.length; i++) {
+            char c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                out.append(c);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of digits entered before the specified position of the input, not counting digits of the
+     * literal prefix.
+     *
+     * @param input     the text entered
+     * @param position  the position in the input, such as the cursor position
+     * @return the number of digits entered before the position
+     */
+    public int countDigits(CharSequence input, int position) {
+        int start = getDigitsStart(input);
+        return position > start ? TextDiff.countDigits(input, start, position) : 0;
+    }
+
+    /**
+     * Returns the position in formatted text right after the specified number of digits, or right after the literal
+     * prefix if no digit precedes it.
+     *
+     * @param formatted the text formatted by this mask
+     * @param digits    the number of digits before the position
+     * @return the position after the digits, not beyond the end of the formatted text
+     */
+    public int positionAfterDigits(CharSequence formatted, int digits) {
+        int position;
+        if (digits <= 0) {
+            position = prefix.length();
+        } else {
+            position = placeholderPositions[Math.min(digits, placeholderPositions.length) - 1] + 1;
+        }
+        return Math.min(position, formatted.length());
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
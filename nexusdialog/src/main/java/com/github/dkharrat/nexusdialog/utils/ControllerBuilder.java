@@ -9,7 +9,17 @@ import com.github.dkharrat.nexusdialog.R;
 
 public class ControllerBuilder {
     public static View createBasicRow(Context context, boolean enabledIconControls) {
-        View view = LayoutInflater.from(context).inflate(R.layout.basic_row, null);
+        return createBasicRow(LayoutInflater.from(context).inflate(R.layout.basic_row, null), enabledIconControls);
+    }
+
+    /**
+     * Sets up a view that was inflated from {@code R.layout.basic_row}.
+     *
+     * @param view                  the inflated row
+     * @param enabledIconControls   if false, the icon and add controls of the row are hidden
+     * @return                      the same view
+     */
+    public static View createBasicRow(View view, boolean enabledIconControls) {
         View icon = view.findViewById(R.id.icon);
         ViewGroup addContainer = view.findViewById(R.id.addContainer);
         if (!enabledIconControls) {
@@ -0,0 +1,42 @@
+package com.github.dkharrat.nexusdialog.utils;
+
+import android.text.Editable;
+
+import com.github.dkharrat.nexusdialog.text.TextDiff;
+import com.github.dkharrat.nexusdialog.text.TextEdit;
+
+/**
+ * Helpers to modify the text of input fields in place.
+ */
+public class EditableUtils {
+    /**
+     * Changes the content of the editable to the specified text by replacing only the region that differs. Unlike
+     * setting the text of a view, this keeps the spans and input method composition of the unchanged text, and only
+     * the changed region needs to be laid out again.
+     *
+     * @param editable  the editable to modify
+     * @param text      the new content
+     * @return true if the editable was modified, otherwise false
+     */
+    public static boolean applyMinimalEdit(Editable editable, CharSequence text) {
+        return applyMinimalEdit(editable, text, new TextEdit());
+    }
+
+    /**
+     * Changes the content of the editable like {@link #applyMinimalEdit(Editable, CharSequence)}, computing the edit
+     * into the specified instance. Fields that format their text on each keystroke keep one instance, so that typing
+     * does not allocate.
+     *
+     * @param editable  the editable to modify
+     * @param text      the new content
+     * @param edit      the instance that receives the edit, which is overwritten
+     * @return true if the editable was modified, otherwise false
+     */
+    public static boolean applyMinimalEdit(Editable editable, CharSequence text, TextEdit edit) {
+        if (!TextDiff.computeEdit(editable, text, edit)) {
+            return false;
+        }
+        editable.replace(edit.getStart(), edit.getEnd(), edit.getReplacement(), edit.getReplacementStart(), edit.getReplacementEnd());
+        return true;
+    }
+}
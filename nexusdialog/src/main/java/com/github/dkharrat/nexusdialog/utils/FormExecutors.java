@@ -0,0 +1,89 @@
+package com.github.dkharrat.nexusdialog.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the shared executors used by NexusDialog to run work off the main thread.
+ */
+public class FormExecutors {
+    private static final int VALIDATION_THREADS = 4;
+    private static final long VALIDATION_KEEP_ALIVE_SECONDS = 30;
+
+    private static ExecutorService background;
+    private static ExecutorService computation;
+    private static ExecutorService validation;
+
+    /**
+     * Returns a single-threaded executor for background work such as view pre-inflation. The executor is created
+     * on first use and its thread does not prevent the process from exiting.
+     *
+     * @return the shared background executor
+     */
+    public static synchronized Executor background() {
+        if (background == null) {
+            background = Executors.newSingleThreadExecutor(newThreadFactory("nexusdialog-background"));
+        }
+        return background;
+    }
+
+    /**
+     * Returns a pool of {@link #computationParallelism()} threads for CPU-bound work such as parallel validation.
+     * The pool is created on first use and its threads do not prevent the process from exiting.
+     *
+     * @return the shared computation executor
+     */
+    public static synchronized ExecutorService computation() {
+        if (computation == null) {
+            computation = Executors.newFixedThreadPool(computationParallelism(), newThreadFactory("nexusdialog-computation"));
+        }
+        return computation;
+    }
+
+    /**
+     * Returns a pool of up to 4 threads for asynchronous validators, which typically wait on I/O such as a server
+     * lookup. It is separate from the {@link #background()} executor, so that slow validators neither delay view
+     * pre-inflation nor wait for each other. Idle threads are released after 30 seconds, and they do not prevent the
+     * process from exiting.
+     *
+     * @return the shared validation executor
+     */
+    public static synchronized ExecutorService validation() {
+        if (validation == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(VALIDATION_THREADS, VALIDATION_THREADS,
+                    VALIDATION_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                    newThreadFactory("nexusdialog-validation"));
+            executor.allowCoreThreadTimeOut(true);
+            validation = executor;
+        }
+        return validation;
+    }
+
+    /**
+     * Returns the number of threads of the {@link #computation()} executor, which is the number of available cores.
+     *
+     * @return the number of threads of the computation executor
+     */
+    public static int computationParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static ThreadFactory newThreadFactory(final String name) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                int index = threadCount.getAndIncrement();
+                Thread thread = new Thread(runnable, index == 0 ? name : name + "-" + index);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
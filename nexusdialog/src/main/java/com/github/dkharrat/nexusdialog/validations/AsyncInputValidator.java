@@ -0,0 +1,11 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+/**
+ * An {@link InputValidator} that is too slow to run on the main thread, for instance because it queries a database.
+ * When the form is validated with {@link com.github.dkharrat.nexusdialog.FormController#validateInputAsync(ValidationListener)},
+ * the validator runs on the form's validation executor and its result is cancelled if the field's value changes in the
+ * meantime. Its {@link #validate(Object, String, String)} method must therefore be thread-safe. Synchronous validation
+ * of the form still runs the validator on the calling thread.
+ */
+public interface AsyncInputValidator extends InputValidator {
+}
@@ -0,0 +1,21 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+/**
+ * An {@link InputValidator} that provides a hint of how expensive it is to run. The validators of a field run in
+ * ascending order of cost, so that cheap checks can report an error before expensive ones run. Validators without a
+ * cost hint are considered to have a cost of {@link #DEFAULT_COST}.
+ */
+public interface CostAwareValidator extends InputValidator {
+    /**
+     * The cost of validators that do not implement this interface.
+     */
+    int DEFAULT_COST = 100;
+
+    /**
+     * Returns the relative cost of running this validator, such as 10 for a length check and 1000 for a complex
+     * regular expression.
+     *
+     * @return the relative cost of running this validator
+     */
+    int getCost();
+}
@@ -0,0 +1,29 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+import com.github.dkharrat.nexusdialog.FormModel;
+
+import java.util.Collection;
+
+/**
+ * A validation rule involving several fields of a form, such as an end date that must be after a start date. Rules
+ * are added to a form with {@link com.github.dkharrat.nexusdialog.FormController#addRule(CrossFieldRule)}, which only
+ * evaluates a rule again when one of the fields it reads changes.
+ */
+public interface CrossFieldRule {
+    /**
+     * Returns the identifiers of the fields that this rule reads. The result must not change once the rule is added
+     * to a form.
+     *
+     * @return the identifiers of the fields this rule reads
+     */
+    Collection<String> getFields();
+
+    /**
+     * Evaluates this rule against the current values of the model. Each error is shown for the field named by
+     * {@link ValidationError#getFieldName()}, which is typically one of the fields this rule reads.
+     *
+     * @param model the model of the form
+     * @param sink  the sink that receives the validation errors
+     */
+    void evaluate(FormModel model, ValidationSink sink);
+}
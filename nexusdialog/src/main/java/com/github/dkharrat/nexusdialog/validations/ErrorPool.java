@@ -0,0 +1,29 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+import android.text.TextUtils;
+
+/**
+ * Holds the last error that a validator returned, so that a validator failing repeatedly for the same field returns
+ * the same immutable instance instead of allocating a new error. Only one error is kept, so memory stays bounded even
+ * though the validators of this library are shared by every form of the process.
+ */
+class ErrorPool {
+    private final int messageRes;
+    private final Object[] messageArgs;
+    private volatile InvalidValue lastError;
+
+    ErrorPool(int messageRes, Object... messageArgs) {
+        this.messageRes = messageRes;
+        this.messageArgs = messageArgs;
+    }
+
+    InvalidValue get(String fieldName, String fieldLabel) {
+        InvalidValue error = lastError;
+        if (error == null || fieldName == null || !fieldName.equals(error.getFieldName())
+                || !TextUtils.equals(error.getFieldLabel(), fieldLabel)) {
+            error = new InvalidValue(fieldName, fieldLabel, messageRes, messageArgs);
+            lastError = error;
+        }
+        return error;
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+import java.util.Collection;
+
+/**
+ * An {@link InputValidator} whose result also depends on the values of other fields of the form, for instance a
+ * validator checking that a confirmation field matches another field. The form re-runs the validator when any of
+ * the declared fields changes, in addition to changes of the validated field itself.
+ */
+public interface FieldDependentValidator extends InputValidator {
+    /**
+     * Returns the identifiers of the other fields that the result of this validator depends on.
+     *
+     * @return the identifiers of the fields this validator reads
+     */
+    Collection<String> getDependencies();
+}
@@ -0,0 +1,19 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+import com.github.dkharrat.nexusdialog.FormElementController;
+
+import java.util.List;
+
+/**
+ * A {@link ValidationErrorDisplay} that can update the errors of a single field without affecting the errors shown
+ * for other fields. It is required for live validation, which validates fields individually as their value changes.
+ */
+public interface FieldValidationErrorDisplay extends ValidationErrorDisplay {
+    /**
+     * Displays the validation errors of the specified element, replacing the errors previously shown for it.
+     *
+     * @param element   the element that was validated
+     * @param errors    the validation errors of the element, which is empty if the input of the element is valid
+     */
+    void showFieldErrors(FormElementController element, List<ValidationError> errors);
+}
@@ -0,0 +1,42 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+import android.content.res.Resources;
+
+import androidx.annotation.StringRes;
+
+import java.text.DateFormat;
+import java.util.Date;
+
+/**
+ * Represents a validation error where the input of a field does not satisfy a constraint, such as a format or a
+ * range. The message is a string resource formatted with the field label, followed by the arguments of the error.
+ */
+public class InvalidValue extends ValidationError {
+    private final int messageRes;
+    private final Object[] messageArgs;
+
+    /**
+     * Creates a new instance with the specified field name.
+     *
+     * @param fieldName     the field name
+     * @param fieldLabel    the field label
+     * @param messageRes    the format string of the message, receiving the field label as first argument
+     * @param messageArgs   the other arguments of the message. Dates are formatted according to the default locale.
+     */
+    public InvalidValue(String fieldName, String fieldLabel, @StringRes int messageRes, Object... messageArgs) {
+        super(fieldName, fieldLabel);
+        this.messageRes = messageRes;
+        this.messageArgs = messageArgs;
+    }
+
+    @Override
+    public String getMessage(Resources resources) {
+        Object[] args = new Object[messageArgs.length + 1];
+        args[0] = getFieldLabel();
+        for (int i = 0; i < messageArgs.length; i++) {
+            Object arg = messageArgs[i];
+            args[i + 1] = arg instanceof Date ? DateFormat.getDateInstance().format((Date) arg) : arg;
+        }
+        return String.format(resources.getString(messageRes), args);
+    }
+}
@@ -3,15 +3,33 @@ package com.github.dkharrat.nexusdialog.validations;
 import android.content.Context;
 import android.content.res.Resources;
 
+import androidx.core.os.ConfigurationCompat;
+
 import com.github.dkharrat.nexusdialog.FormController;
 import com.github.dkharrat.nexusdialog.FormElementController;
 import com.github.dkharrat.nexusdialog.controllers.FormSectionController;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
 
-public class PerFieldValidationErrorDisplay implements ValidationErrorDisplay {
+/**
+ * Displays the first validation error of each field below the field. Only the fields whose error changed since the
+ * errors were last shown are updated, so showing the errors of a form repeatedly, such as while the user types, only
+ * touches the views of the fields that became valid or invalid.
+ */
+public class PerFieldValidationErrorDisplay implements FieldValidationErrorDisplay {
     private final Context context;
     private final FormController controller;
+    // the error message currently displayed by each element
+    private Map<FormElementController, String> shownErrors = new HashMap<>();
+    private Map<FormElementController, String> newErrors = new HashMap<>();
+    // messages of errors are resolved once for the current locale; errors are mostly shared instances
+    private final Map<ValidationError, String> messages = new WeakHashMap<>();
+    private Locale messagesLocale;
 
     public PerFieldValidationErrorDisplay(Context context, FormController controller) {
         this.context = context;
@@ -20,20 +38,74 @@ public class PerFieldValidationErrorDisplay implements ValidationErrorDisplay {
 
     @Override
     public void resetErrors() {
-        for (FormSectionController section: controller.getSections()) {
-            for (FormElementController elementController: section.getElements()) {
-                elementController.setError(null);
+        // errors may also have been set on elements directly, so every element is reset
+        for (FormSectionController section : controller.getSections()) {
+            for (FormElementController element : section.getElements()) {
+                element.setError(null);
             }
-         }
+        }
+        shownErrors.clear();
     }
 
     @Override
     public void showErrors(List<ValidationError> errors) {
         Resources res = context.getResources();
-        FormElementController element;
-        for (ValidationError error : errors) {
-            element = controller.getElement(error.getFieldName());
-            element.setError(error.getMessage(res));
+        updateMessagesLocale(res);
+        for (int i = 0; i < errors.size(); i++) {
+            ValidationError error = errors.get(i);
+            FormElementController element = controller.getElement(error.getFieldName());
+            if (element != null && !newErrors.containsKey(element)) {
+                newErrors.put(element, getMessage(error, res));
+            }
+        }
+
+        for (Map.Entry<FormElementController, String> shownError : shownErrors.entrySet()) {
+            if (!newErrors.containsKey(shownError.getKey())) {
+                shownError.getKey().setError(null);
+            }
+        }
+        for (Map.Entry<FormElementController, String> newError : newErrors.entrySet()) {
+            if (!Objects.equals(newError.getValue(), shownErrors.get(newError.getKey()))) {
+                newError.getKey().setError(newError.getValue());
+            }
+        }
+
+        // the maps are swapped and reused on the next call
+        Map<FormElementController, String> previousErrors = shownErrors;
+        shownErrors = newErrors;
+        newErrors = previousErrors;
+        newErrors.clear();
+    }
+
+    @Override
+    public void showFieldErrors(FormElementController element, List<ValidationError> errors) {
+        String message = null;
+        if (!errors.isEmpty()) {
+            Resources res = context.getResources();
+            updateMessagesLocale(res);
+            message = getMessage(errors.get(0), res);
+        }
+
+        String shownMessage = message != null ? shownErrors.put(element, message) : shownErrors.remove(element);
+        if (!Objects.equals(message, shownMessage)) {
+            element.setError(message);
+        }
+    }
+
+    private void updateMessagesLocale(Resources res) {
+        Locale locale = ConfigurationCompat.getLocales(res.getConfiguration()).get(0);
+        if (!locale.equals(messagesLocale)) {
+            messages.clear();
+            messagesLocale = locale;
+        }
+    }
+
+    private String getMessage(ValidationError error, Resources res) {
+        String message = messages.get(error);
+        if (message == null) {
+            message = error.getMessage(res);
+            messages.put(error, message);
         }
+        return message;
     }
 }
@@ -0,0 +1,10 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+/**
+ * An {@link InputValidator} whose result only depends on the validated value and the field, and never changes for an
+ * equal value. The results of pure validators are remembered by fields for their most recent values, so that
+ * validating a field again with an unchanged value does not run them. Values of fields using pure validators must be
+ * immutable, such as strings or numbers.
+ */
+public interface PureInputValidator extends InputValidator {
+}
@@ -3,14 +3,28 @@ package com.github.dkharrat.nexusdialog.validations;
 import android.text.TextUtils;
 
 public class RequiredFieldValidator implements InputValidator {
+    // errors are immutable, so the last error is returned again while the same field keeps failing. Only one error is
+    // kept, so memory stays bounded even if an instance is shared by many fields.
+    private volatile RequiredField lastError;
+
     @Override
     public ValidationError validate(Object value, String fieldName, String fieldLabel) {
         if (value == null || (value instanceof String && TextUtils.isEmpty((String) value))) {
-            return new RequiredField(fieldName, fieldLabel);
+            return getError(fieldName, fieldLabel);
         }
         return null;
     }
 
+    private RequiredField getError(String fieldName, String fieldLabel) {
+        RequiredField error = lastError;
+        if (error == null || fieldName == null || !fieldName.equals(error.getFieldName())
+                || !TextUtils.equals(error.getFieldLabel(), fieldLabel)) {
+            error = new RequiredField(fieldName, fieldLabel);
+            lastError = error;
+        }
+        return error;
+    }
+
     /**
      * Makes every instances of {@link RequiredFieldValidator} equal.
      *
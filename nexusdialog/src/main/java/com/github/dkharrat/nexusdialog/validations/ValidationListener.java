@@ -0,0 +1,16 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+import java.util.List;
+
+/**
+ * Listener that receives the result of an asynchronous validation of a form.
+ */
+public interface ValidationListener {
+    /**
+     * Called on the main thread once all the validators of the form have completed. An asynchronous validator that
+     * threw is reported as a {@link ValidatorFailure} of its field.
+     *
+     * @param errors the validation errors of the form's input, in form order
+     */
+    void onValidationComplete(List<ValidationError> errors);
+}
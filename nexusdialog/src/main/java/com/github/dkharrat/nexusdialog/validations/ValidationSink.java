@@ -0,0 +1,23 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+/**
+ * Receives validation errors as they are found. Validating into a sink instead of collecting errors in lists avoids
+ * allocating anything when the input is valid.
+ */
+public interface ValidationSink {
+    /**
+     * A sink that ignores errors, used when only the number of errors matters.
+     */
+    ValidationSink DISCARD = new ValidationSink() {
+        @Override
+        public void addError(ValidationError error) {
+        }
+    };
+
+    /**
+     * Called for each validation error found.
+     *
+     * @param error the validation error
+     */
+    void addError(ValidationError error);
+}
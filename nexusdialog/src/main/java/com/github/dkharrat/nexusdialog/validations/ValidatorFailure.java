@@ -0,0 +1,39 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+import android.content.res.Resources;
+import com.github.dkharrat.nexusdialog.R;
+
+/**
+ * Represents a validation error where a validator of a field threw an exception instead of returning a result, for
+ * instance because an {@link AsyncInputValidator} could not reach its server. The input of the field is not
+ * considered valid in that case.
+ */
+public class ValidatorFailure extends ValidationError {
+    private final Throwable cause;
+
+    /**
+     * Creates a new instance with the specified field name.
+     *
+     * @param fieldName     the field name
+     * @param fieldLabel    the field label
+     * @param cause         the exception thrown by the validator
+     */
+    public ValidatorFailure(String fieldName, String fieldLabel, Throwable cause) {
+        super(fieldName, fieldLabel);
+        this.cause = cause;
+    }
+
+    /**
+     * Returns the exception thrown by the validator.
+     *
+     * @return the exception thrown by the validator
+     */
+    public Throwable getCause() {
+        return cause;
+    }
+
+    @Override
+    public String getMessage(Resources resources) {
+        return String.format(resources.getString(R.string.validator_failed_error_msg), getFieldLabel());
+    }
+}
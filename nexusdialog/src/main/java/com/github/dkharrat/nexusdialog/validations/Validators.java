@@ -0,0 +1,409 @@
+package com.github.dkharrat.nexusdialog.validations;
+
+import androidx.annotation.StringRes;
+
+import com.github.dkharrat.nexusdialog.R;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Provides common validators, to be added to fields with
+ * {@link com.github.dkharrat.nexusdialog.controllers.LabeledFieldController#addValidator(InputValidator)}.
+ * <p/>
+ * Validators are immutable and shared: requesting a validator with the same parameters returns the same instance, so
+ * regular expressions are compiled once no matter how many fields use them. The validators are pure and provide cost
+ * hints, and return the same error instance while the same field keeps failing. Empty values are considered valid,
+ * since missing input is reported by the required field check.
+ */
+public final class Validators {
+    private static final String EMAIL_REGEX = "[A-Za-z0-9._%+\\-]+@[A-Za-z0-9\\-]+(\\.[A-Za-z0-9\\-]+)*\\.[A-Za-z]{2,}";
+    private static final String PHONE_REGEX = "\\+?[0-9][0-9 ()\\-.]{4,18}[0-9]";
+
+    private static final ConcurrentHashMap<List<Object>, InputValidator> INTERNED = new ConcurrentHashMap<>();
+
+    private Validators() {
+    }
+
+    /**
+     * Returns a validator checking that the whole input matches the specified regular expression.
+     *
+     * @param regex         the regular expression
+     * @param messageRes    the format string of the error message, receiving the field label as argument
+     * @return the validator
+     */
+    public static InputValidator pattern(String regex, @StringRes int messageRes) {
+        List<Object> key = Arrays.<Object>asList("pattern", regex, messageRes);
+        InputValidator validator = INTERNED.get(key);
+        return validator != null ? validator : intern(key, new PatternValidator(Pattern.compile(regex), messageRes));
+    }
+
+    /**
+     * Returns a validator checking that the whole input matches the specified regular expression, with a generic
+     * error message.
+     *
+     * @param regex the regular expression
+     * @return the validator
+     */
+    public static InputValidator pattern(String regex) {
+        return pattern(regex, R.string.invalid_format_error_msg);
+    }
+
+    /**
+     * Returns a validator checking that the input is an email address.
+     *
+     * @return the validator
+     */
+    public static InputValidator email() {
+        return pattern(EMAIL_REGEX, R.string.invalid_email_error_msg);
+    }
+
+    /**
+     * Returns a validator checking that the input is a phone number, made of digits and common separators with an
+     * optional leading plus sign.
+     *
+     * @return the validator
+     */
+    public static InputValidator phone() {
+        return pattern(PHONE_REGEX, R.string.invalid_phone_error_msg);
+    }
+
+    /**
+     * Returns a validator checking that the length of the input is within the specified bounds.
+     *
+     * @param minLength the minimum number of characters
+     * @param maxLength the maximum number of characters, or <code>Integer.MAX_VALUE</code> for no maximum
+     * @return the validator
+     */
+    public static InputValidator length(int minLength, int maxLength) {
+        List<Object> key = Arrays.<Object>asList("length", minLength, maxLength);
+        InputValidator validator = INTERNED.get(key);
+        return validator != null ? validator : intern(key, new LengthValidator(minLength, maxLength));
+    }
+
+    /**
+     * Returns a validator checking that the input is a number within the specified bounds. Both numbers and text
+     * values are supported.
+     *
+     * @param min   the minimum value, or <code>Double.NEGATIVE_INFINITY</code> for no minimum
+     * @param max   the maximum value, or <code>Double.POSITIVE_INFINITY</code> for no maximum
+     * @return the validator
+     */
+    public static InputValidator range(double min, double max) {
+        List<Object> key = Arrays.<Object>asList("range", min, max);
+        InputValidator validator = INTERNED.get(key);
+        return validator != null ? validator : intern(key, new RangeValidator(min, max));
+    }
+
+    /**
+     * Returns a validator checking that the input is a date within the specified bounds. <code>Date</code>,
+     * <code>Calendar</code> and millisecond values are supported.
+     *
+     * @param min   the earliest date allowed, or null for no minimum
+     * @param max   the latest date allowed, or null for no maximum
+     * @return the validator
+     */
+    public static InputValidator dateRange(Date min, Date max) {
+        List<Object> key = Arrays.<Object>asList("dateRange", min, max);
+        InputValidator validator = INTERNED.get(key);
+        return validator != null ? validator : intern(key, new DateRangeValidator(min, max));
+    }
+
+    /**
+     * Returns a validator checking that the input is a number passing the Luhn checksum, such as a payment card
+     * number. Spaces and dashes between digits are allowed.
+     *
+     * @return the validator
+     */
+    public static InputValidator luhn() {
+        List<Object> key = Arrays.<Object>asList("luhn");
+        InputValidator validator = INTERNED.get(key);
+        return validator != null ? validator : intern(key, new LuhnValidator());
+    }
+
+    /**
+     * Returns a validator checking that the input is an International Bank Account Number with valid check digits.
+     * Spaces are allowed.
+     *
+     * @return the validator
+     */
+    public static InputValidator iban() {
+        List<Object> key = Arrays.<Object>asList("iban");
+        InputValidator validator = INTERNED.get(key);
+        return validator != null ? validator : intern(key, new IbanValidator());
+    }
+
+    private static InputValidator intern(List<Object> key, InputValidator validator) {
+        InputValidator existing = INTERNED.putIfAbsent(key, validator);
+        return existing != null ? existing : validator;
+    }
+
+    private static CharSequence toText(Object value) {
+        return value instanceof CharSequence ? (CharSequence) value : value.toString();
+    }
+
+    private static Object toMessageArg(double bound) {
+        return bound == Math.rint(bound) && !Double.isInfinite(bound) ? (Object) (long) bound : (Object) bound;
+    }
+
+    /**
+     * Base class of the validators of this library, which ignores empty values and returns the last error again while
+     * the same field keeps failing.
+     */
+    private abstract static class BuiltInValidator implements PureInputValidator, CostAwareValidator {
+        private final int cost;
+
+        BuiltInValidator(int cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public int getCost() {
+            return cost;
+        }
+
+        @Override
+        public ValidationError validate(Object value, String fieldName, String fieldLabel) {
+            if (value == null || (value instanceof CharSequence && ((CharSequence) value).length() == 0)) {
+                return null;
+            }
+            ErrorPool errors = check(value);
+            return errors != null ? errors.get(fieldName, fieldLabel) : null;
+        }
+
+        /**
+         * Checks the specified value, which is not empty.
+         *
+         * @return the errors of the violated constraint, or null if the value is valid
+         */
+        abstract ErrorPool check(Object value);
+    }
+
+    private static final class PatternValidator extends BuiltInValidator {
+        // matchers are not thread-safe, so each thread resets its own matcher on the validated text
+        private final ThreadLocal<Matcher> matchers;
+        private final ErrorPool errors;
+
+        PatternValidator(final Pattern pattern, int messageRes) {
+            super(CostAwareValidator.DEFAULT_COST);
+            this.matchers = new ThreadLocal<Matcher>() {
+                @Override
+                protected Matcher initialValue() {
+                    return pattern.matcher("");
+                }
+            };
+            this.errors = new ErrorPool(messageRes);
+        }
+
+        @Override
+        ErrorPool check(Object value) {
+            Matcher matcher = matchers.get().reset(toText(value));
+            boolean matches = matcher.matches();
+            // do not keep a reference to the text
+            matcher.reset("");
+            return matches ? null : errors;
+        }
+    }
+
+    private static final class LengthValidator extends BuiltInValidator {
+        private final int minLength;
+        private final int maxLength;
+        private final ErrorPool tooShortErrors;
+        private final ErrorPool tooLongErrors;
+
+        LengthValidator(int minLength, int maxLength) {
+            super(1);
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.tooShortErrors = new ErrorPool(R.string.too_short_error_msg, minLength);
+            this.tooLongErrors = new ErrorPool(R.string.too_long_error_msg, maxLength);
+        }
+
+        @Override
+        ErrorPool check(Object value) {
+            int length = toText(value).length();
+            if (length < minLength) {
+                return tooShortErrors;
+            }
+            return length > maxLength ? tooLongErrors : null;
+        }
+    }
+
+    private static final class RangeValidator extends BuiltInValidator {
+        private final double min;
+        private final double max;
+        private final ErrorPool notANumberErrors;
+        private final ErrorPool tooSmallErrors;
+        private final ErrorPool tooLargeErrors;
+
+        RangeValidator(double min, double max) {
+            super(5);
+            this.min = min;
+            this.max = max;
+            this.notANumberErrors = new ErrorPool(R.string.not_a_number_error_msg);
+            this.tooSmallErrors = new ErrorPool(R.string.too_small_error_msg, toMessageArg(min));
+            this.tooLargeErrors = new ErrorPool(R.string.too_large_error_msg, toMessageArg(max));
+        }
+
+        @Override
+        ErrorPool check(Object value) {
+            double number;
+            if (value instanceof Number) {
+                number = ((Number) value).doubleValue();
+            } else {
+                try {
+                    number = Double.parseDouble(toText(value).toString().trim());
+                } catch (NumberFormatException e) {
+                    return notANumberErrors;
+                }
+            }
+
+            if (Double.isNaN(number)) {
+                return notANumberErrors;
+            }
+            if (number < min) {
+                return tooSmallErrors;
+            }
+            return number > max ? tooLargeErrors : null;
+        }
+    }
+
+    private static final class DateRangeValidator extends BuiltInValidator {
+        private final long min;
+        private final long max;
+        private final ErrorPool tooEarlyErrors;
+        private final ErrorPool tooLateErrors;
+
+        DateRangeValidator(Date min, Date max) {
+            super(1);
+            this.min = min != null ? min.getTime() : Long.MIN_VALUE;
+            this.max = max != null ? max.getTime() : Long.MAX_VALUE;
+            this.tooEarlyErrors = new ErrorPool(R.string.too_early_error_msg, min);
+            this.tooLateErrors = new ErrorPool(R.string.too_late_error_msg, max);
+        }
+
+        @Override
+        ErrorPool check(Object value) {
+            long time;
+            if (value instanceof Date) {
+                time = ((Date) value).getTime();
+            } else if (value instanceof Calendar) {
+                time = ((Calendar) value).getTimeInMillis();
+            } else if (value instanceof Number) {
+                time = ((Number) value).longValue();
+            } else {
+                // values of other types are not dates this validator can check
+                return null;
+            }
+
+            if (time < min) {
+                return tooEarlyErrors;
+            }
+            return time > max ? tooLateErrors : null;
+        }
+    }
+
+    private static final class LuhnValidator extends BuiltInValidator {
+        private final ErrorPool errors = new ErrorPool(R.string.invalid_card_number_error_msg);
+
+        LuhnValidator() {
+            super(10);
+        }
+
+        @Override
+        ErrorPool check(Object value) {
+            CharSequence text = toText(value);
+            int sum = 0;
+            int digits = 0;
+            // digits are doubled every other position, starting from the rightmost digit
+            for (int i = text.length() - 1; i >= 0; i--) {
+                char c = text.charAt(i);
+                if (c == ' ' || c == '-') {
+                    continue;
+                }
+                if (c < '0' || c > '9') {
+                    return errors;
+                }
+
+                int digit = c - '0';
+                if (digits % 2 == 1) {
+                    digit *= 2;
+                    if (digit > 9) {
+                        digit -= 9;
+                    }
+                }
+                sum += digit;
+                digits++;
+            }
+            return digits > 1 && sum % 10 == 0 ? null : errors;
+        }
+    }
+
+    private static final class IbanValidator extends BuiltInValidator {
+        private static final int MIN_LENGTH = 15;
+        private static final int MAX_LENGTH = 34;
+
+        private final ErrorPool errors = new ErrorPool(R.string.invalid_iban_error_msg);
+
+        IbanValidator() {
+            super(20);
+        }
+
+        @Override
+        ErrorPool check(Object value) {
+            CharSequence text = toText(value);
+            int length = 0;
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) != ' ') {
+                    length++;
+                }
+            }
+            if (length < MIN_LENGTH || length > MAX_LENGTH) {
+                return errors;
+            }
+
+            // the first four characters are moved to the end, letters count as two digits from 10 to 35, and the
+            // resulting number must be 1 modulo 97
+            int remainder = 0;
+            int position = 0;
+            for (int pass = 0; pass < 2; pass++) {
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    if (c == ' ') {
+                        continue;
+                    }
+                    boolean isHead = position++ < 4;
+                    if (isHead == (pass == 0)) {
+                        continue;
+                    }
+
+                    int code = toCode(c);
+                    if (code < 0 || (position <= 2 && code < 10) || (position > 2 && position <= 4 && code >= 10)) {
+                        // the country code is made of letters and the check digits of digits
+                        return errors;
+                    }
+                    remainder = (code < 10 ? remainder * 10 : remainder * 100) + code;
+                    remainder %= 97;
+                }
+                position = 0;
+            }
+            return remainder == 1 ? null : errors;
+        }
+
+        private static int toCode(char c) {
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            } else if (c >= 'A' && c <= 'Z') {
+                return c - 'A' + 10;
+            } else if (c >= 'a' && c <= 'z') {
+                return c - 'a' + 10;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.dkharrat.nexusdialog.libs;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class InputMaskTest {
+    private static final InputMask PHONE = InputMask.compile("+1 (###) ###-####");
+    private static final InputMask CARD = InputMask.compile("#### #### #### ####");
+
+    private static String format(InputMask mask, String input) {
+        StringBuilder out = new StringBuilder();
+        mask.format(input, out);
+        return out.toString();
+    }
+
+    private static String unformat(InputMask mask, String input) {
+        StringBuilder out = new StringBuilder();
+        mask.unformat(input, out);
+        return out.toString();
+    }
+
+    @Test
+    public void formatsRawDigits() {
+        assertEquals("+1 (555) 123-4567", format(PHONE, "5551234567"));
+        assertEquals("+1 (123) 456-7890", format(PHONE, "1234567890"));
+        assertEquals("+1 (55", format(PHONE, "55"));
+        assertEquals("4111 1111 1111 1111", format(CARD, "4111111111111111"));
+    }
+
+    @Test
+    public void reformatsFormattedText() {
+        assertEquals("+1 (555) 123-4567", format(PHONE, "+1 (555) 123-4567"));
+        assertEquals("+1 (555) 123-4", format(PHONE, "+1 (555) 123-4"));
+        assertEquals("5551234567", unformat(PHONE, "+1 (555) 123-4567"));
+    }
+
+    @Test
+    public void ignoresDeletedLiteralsOfPrefix() {
+        assertEquals("+1 (5", format(PHONE, "+1 5"));
+        assertEquals("+1 (5", format(PHONE, "+15"));
+        assertEquals("+1 (555", format(PHONE, "1 (555"));
+        assertEquals("5", unformat(PHONE, "+1 5"));
+    }
+
+    @Test
+    public void ignoresDeletedDigitOfPrefix() {
+        assertEquals("+1 (555", format(PHONE, "+ (555"));
+        assertEquals("555", unformat(PHONE, "+ (555"));
+    }
+
+    @Test
+    public void skipsPrefixOfPastedNumbers() {
+        assertEquals("+1 (555) 123-4567", format(PHONE, "+15551234567"));
+        assertEquals("5551234567", unformat(PHONE, "+15551234567"));
+        assertEquals("+1 (555) 123-4567", format(PHONE, "15551234567"));
+        assertEquals("+1 (555) 123-4567", format(PHONE, "+5551234567"));
+    }
+
+    @Test
+    public void countsDigitsAfterPrefix() {
+        assertEquals(0, PHONE.countDigits("+1 (", 4));
+        assertEquals(1, PHONE.countDigits("+1 5", 4));
+        assertEquals(3, PHONE.countDigits("+1 (555) 1", 8));
+    }
+
+    @Test
+    public void mapsDigitsToPositions() {
+        assertEquals(4, PHONE.positionAfterDigits("+1 (555", 0));
+        assertEquals(7, PHONE.positionAfterDigits("+1 (555) 1", 3));
+        assertEquals(10, PHONE.positionAfterDigits("+1 (555) 1", 4));
+    }
+}